@@ -0,0 +1,88 @@
+package adventure.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Resolves the same random sequence of moves with the different representations of connections.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveResolutionBenchmark {
+    private static final int NUM_MOVES = 1024;
+
+    @Param({"100", "10000"})
+    public int numLocations;
+
+    @Param({"4"})
+    public int fanOut;
+
+    private adventure.v5b.Location[] v5bLocations;
+    private adventure.v5c.Location[] v5cLocations;
+    private adventure.v3a.World v3aWorld;
+    private adventure.v3a.Location[] v3aLocations;
+    private String[] directions;
+    private int[] directionIds;
+
+    @Setup
+    public void setUp() {
+        List<Map<String, Object>> locationData = SyntheticWorlds.locationData(numLocations, fanOut, 42);
+        var v5bWorld = adventure.v5b.WorldFactory.fromLocationData(locationData);
+        var v5cWorld = adventure.v5c.WorldFactory.fromLocationData(locationData);
+        v3aWorld = adventure.v3a.World.fromLocationData(locationData);
+
+        SplittableRandom random = new SplittableRandom(7);
+        v5bLocations = new adventure.v5b.Location[NUM_MOVES];
+        v5cLocations = new adventure.v5c.Location[NUM_MOVES];
+        v3aLocations = new adventure.v3a.Location[NUM_MOVES];
+        directions = new String[NUM_MOVES];
+        directionIds = new int[NUM_MOVES];
+        for (int i = 0; i < NUM_MOVES; i++) {
+            String name = SyntheticWorlds.locationName(random.nextInt(numLocations));
+            directions[i] = SyntheticWorlds.DIRECTIONS.get(random.nextInt(fanOut));
+            v5bLocations[i] = v5bWorld.getLocationByName(name);
+            v5cLocations[i] = v5cWorld.getLocationByName(name);
+            v3aLocations[i] = v3aWorld.getLocationByName(name);
+            directionIds[i] = v5cWorld.graph().directionId(directions[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_MOVES)
+    public void v3aWorldGetConnectedLocation(Blackhole blackhole) {
+        for (int i = 0; i < NUM_MOVES; i++) {
+            blackhole.consume(v3aWorld.getConnectedLocation(v3aLocations[i], directions[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_MOVES)
+    public void v5bLocationGetConnectedLocation(Blackhole blackhole) {
+        for (int i = 0; i < NUM_MOVES; i++) {
+            blackhole.consume(v5bLocations[i].getConnectedLocation(directions[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_MOVES)
+    public void v5cLocationGetConnectedLocationByName(Blackhole blackhole) {
+        for (int i = 0; i < NUM_MOVES; i++) {
+            blackhole.consume(v5cLocations[i].getConnectedLocation(directions[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUM_MOVES)
+    public void v5cLocationGetConnectedLocationById(Blackhole blackhole) {
+        for (int i = 0; i < NUM_MOVES; i++) {
+            blackhole.consume(v5cLocations[i].getConnectedLocation(directionIds[i]));
+        }
+    }
+}
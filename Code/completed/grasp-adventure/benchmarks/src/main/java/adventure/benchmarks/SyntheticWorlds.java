@@ -0,0 +1,49 @@
+package adventure.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+// Generates location data in the format of the JSON files, with a given number of locations and exits per location.
+public class SyntheticWorlds {
+    public static final List<String> DIRECTIONS = List.of(
+            "north", "south", "east", "west", "up", "down", "northeast", "northwest", "southeast", "southwest");
+
+    public static String locationName(int index) {
+        return "Room " + index;
+    }
+
+    public static List<Map<String, Object>> locationData(int numLocations, int fanOut, long seed) {
+        if (fanOut > DIRECTIONS.size()) {
+            throw new IllegalArgumentException("At most " + DIRECTIONS.size() + " exits per location are supported");
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Map<String, Object>> result = new ArrayList<>(numLocations);
+        for (int i = 0; i < numLocations; i++) {
+            Map<String, String> connections = new LinkedHashMap<>();
+            for (int d = 0; d < fanOut; d++) {
+                connections.put(DIRECTIONS.get(d), locationName(random.nextInt(numLocations)));
+            }
+            Map<String, Object> location = new LinkedHashMap<>();
+            location.put("name", locationName(i));
+            location.put("description", "A featureless room of type " + random.nextInt(16));
+            location.put("connections", connections);
+            result.add(location);
+        }
+        return result;
+    }
+
+    public static byte[] toJson(List<Map<String, Object>> locationData) {
+        try {
+            return new ObjectMapper().writeValueAsString(locationData).getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Error generating JSON", e);
+        }
+    }
+}
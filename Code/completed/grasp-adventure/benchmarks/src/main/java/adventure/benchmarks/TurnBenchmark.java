@@ -0,0 +1,99 @@
+package adventure.benchmarks;
+
+import adventure.v5c.ActionCatalog;
+import adventure.v5c.Player;
+import adventure.v5c.SelectActionStrategy;
+import adventure.v5c.World;
+import adventure.v5c.WorldFactory;
+import adventure.v5c.strategies.SelectAggressiveActionStrategy;
+import adventure.v5c.strategies.SelectFirstActionStrategy;
+import adventure.v5c.strategies.SelectHelpfulActionStrategy;
+import adventure.v5c.strategies.SelectRandomActionStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TurnBenchmark {
+    @Param({"10000"})
+    public int numLocations;
+
+    @Param({"4"})
+    public int fanOut;
+
+    @Param({"first", "random", "aggressive", "helpful"})
+    public String strategy;
+
+    @Param({"false", "true"})
+    public boolean useActionCatalog;
+
+    private Player v5cPlayer;
+    private List<adventure.v5c.Action> v5cActions;
+    private adventure.v5b.Player v5bPlayer;
+    private adventure.v5a.Player v5aPlayer;
+
+    @Setup
+    public void setUp() {
+        List<Map<String, Object>> locationData = SyntheticWorlds.locationData(numLocations, fanOut, 42);
+        String initialLocationName = SyntheticWorlds.locationName(0);
+
+        World world = WorldFactory.fromLocationData(locationData);
+        v5cPlayer = new Player("Benchmark Player", world.getLocationByName(initialLocationName));
+        v5cPlayer.setStrategy(createStrategy(strategy));
+        if (useActionCatalog) {
+            v5cPlayer.setActionCatalog(new ActionCatalog(world.graph()));
+        }
+        v5cActions = v5cPlayer.getPossibleActions();
+
+        var v5bWorld = adventure.v5b.WorldFactory.fromLocationData(locationData);
+        v5bPlayer = new adventure.v5b.Player("Benchmark Player", v5bWorld.getLocationByName(initialLocationName));
+        v5bPlayer.setStrategy(switch (strategy) {
+            case "random" -> adventure.v5b.PlayerStrategy.RANDOM_ACTION;
+            case "aggressive" -> adventure.v5b.PlayerStrategy.AGGRESSIVE;
+            case "helpful" -> adventure.v5b.PlayerStrategy.HELPFUL;
+            default -> adventure.v5b.PlayerStrategy.FIRST_ACTION;
+        });
+
+        var v5aWorld = adventure.v5a.WorldFactory.fromLocationData(locationData);
+        v5aPlayer = new adventure.v5a.Player("Benchmark Player", v5aWorld.getLocationByName(initialLocationName));
+    }
+
+    private static SelectActionStrategy createStrategy(String name) {
+        return switch (name) {
+            case "random" -> new SelectRandomActionStrategy();
+            case "aggressive" -> new SelectAggressiveActionStrategy();
+            case "helpful" -> new SelectHelpfulActionStrategy();
+            default -> new SelectFirstActionStrategy();
+        };
+    }
+
+    @Benchmark
+    public Object v5cSelectAction() {
+        return v5cPlayer.selectAction(v5cActions);
+    }
+
+    @Benchmark
+    public Object v5cTakeTurn() {
+        v5cPlayer.takeTurn();
+        return v5cPlayer.getLocation();
+    }
+
+    @Benchmark
+    public Object v5bTakeTurn() {
+        v5bPlayer.takeTurn();
+        return v5bPlayer.getLocation();
+    }
+
+    @Benchmark
+    public Object v5aTakeTurn() {
+        v5aPlayer.takeTurn();
+        return v5aPlayer.getLocation();
+    }
+}
@@ -0,0 +1,75 @@
+package adventure.benchmarks;
+
+import adventure.v5c.Location;
+import adventure.v5c.World;
+import adventure.v5c.WorldFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.lang.management.MemoryMXBean;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// Measures the heap retained by a world with a million locations (or the number given as first argument), once as
+// Location records with their own HashMap and description, and once as a v5c world whose locations have all been
+// materialized. Run with a fixed heap size, e.g., -Xms4g -Xmx4g, for stable numbers.
+public class WorldFootprint {
+    public static void main(String[] args) {
+        int numLocations = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        List<Map<String, Object>> locationData = SyntheticWorlds.locationData(numLocations, 6, 42);
+
+        long naiveBytes = retainedBytes(() -> buildNaive(locationData));
+        report("HashMap per location", naiveBytes, numLocations);
+        long compiledBytes = retainedBytes(() -> buildCompiled(locationData));
+        report("v5c world", compiledBytes, numLocations);
+        System.out.printf("Reduction: %.1f%%%n", 100.0 * (naiveBytes - compiledBytes) / naiveBytes);
+    }
+
+    private static long retainedBytes(Supplier<Object> factory) {
+        long before = usedHeap();
+        Object result = factory.get();
+        long after = usedHeap();
+        Reference.reachabilityFence(result);
+        return after - before;
+    }
+
+    private static World buildCompiled(List<Map<String, Object>> locationData) {
+        World world = WorldFactory.fromLocationData(locationData);
+        // Locations of a v5c world are only created when they are first requested.
+        for (Location location : world.locations().values()) {
+            location.connectedLocations().size();
+        }
+        return world;
+    }
+
+    private static Map<String, Location> buildNaive(List<Map<String, Object>> locationData) {
+        Map<String, Location> locations = new HashMap<>();
+        for (Map<String, Object> data : locationData) {
+            String name = (String) data.get("name");
+            // Copies the description as a JSON parser would create a new string for every location.
+            String description = new String((String) data.get("description"));
+            locations.put(name, new Location(name, description, new HashMap<>()));
+        }
+        for (Map<String, Object> data : locationData) {
+            Location from = locations.get((String) data.get("name"));
+            //noinspection unchecked
+            var connections = (Map<String, String>) data.get("connections");
+            connections.forEach((direction, to) -> from.connectedLocations().put(direction, locations.get(to)));
+        }
+        return locations;
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private static void report(String label, long bytes, int numLocations) {
+        System.out.printf("%-22s %,14d bytes  %,8.1f bytes/location%n", label, bytes, (double) bytes / numLocations);
+    }
+}
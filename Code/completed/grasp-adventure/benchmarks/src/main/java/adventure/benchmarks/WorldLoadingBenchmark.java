@@ -0,0 +1,103 @@
+package adventure.benchmarks;
+
+import adventure.data.JsonLoader;
+import adventure.data.JsonLocationReader;
+import adventure.v5c.WorldGraph;
+import adventure.v5c.WorldSnapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldLoadingBenchmark {
+    @Param({"1000", "100000"})
+    public int numLocations;
+
+    @Param({"4"})
+    public int fanOut;
+
+    private List<Map<String, Object>> locationData;
+    private byte[] json;
+    private Path snapshot;
+
+    @Setup
+    public void setUp() throws IOException {
+        locationData = SyntheticWorlds.locationData(numLocations, fanOut, 42);
+        json = SyntheticWorlds.toJson(locationData);
+        snapshot = Files.createTempFile("world", ".snapshot");
+        WorldSnapshot.write(adventure.v5c.WorldFactory.fromLocationData(locationData).graph(), snapshot);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(snapshot);
+    }
+
+    @Benchmark
+    public Object parseJsonToMaps() {
+        return JsonLoader.parseJson(new ByteArrayInputStream(json));
+    }
+
+    @Benchmark
+    public Object v5cFromJsonMaps() {
+        return adventure.v5c.WorldFactory.fromLocationData(JsonLoader.parseJson(new ByteArrayInputStream(json)));
+    }
+
+    @Benchmark
+    public Object v5cFromJsonStream() throws IOException {
+        WorldGraph.Builder builder = new WorldGraph.Builder();
+        JsonLocationReader.read(new ByteArrayInputStream(json), builder);
+        return adventure.v5c.WorldFactory.fromGraph(builder.build());
+    }
+
+    @Benchmark
+    public Object v5cFromSnapshot() {
+        return adventure.v5c.WorldFactory.fromSnapshot(snapshot);
+    }
+
+    @Benchmark
+    public Object v2FromLocationData() {
+        return adventure.v2.World.fromLocationData(locationData);
+    }
+
+    @Benchmark
+    public Object v3aFromLocationData() {
+        return adventure.v3a.World.fromLocationData(locationData);
+    }
+
+    @Benchmark
+    public Object v3bFromLocationData() {
+        return adventure.v3b.World.fromLocationData(locationData);
+    }
+
+    @Benchmark
+    public Object v3cFromLocationData() {
+        return adventure.v3c.WorldFactory.fromLocationData(locationData);
+    }
+
+    @Benchmark
+    public Object v4cFromLocationData() {
+        return adventure.v4c.WorldFactory.fromLocationData(locationData);
+    }
+
+    @Benchmark
+    public Object v5bFromLocationData() {
+        return adventure.v5b.WorldFactory.fromLocationData(locationData);
+    }
+
+    @Benchmark
+    public Object v5cFromLocationData() {
+        return adventure.v5c.WorldFactory.fromLocationData(locationData);
+    }
+}
@@ -1,16 +1,15 @@
 package adventure.data;
 
 import java.nio.file.*;
-import java.util.stream.Stream;
 
 public class FileFinder {
+    private static final ResourceResolver resolver = ResourceResolver.fromSystemProperties();
+
     public static Path find(String name) throws java.io.IOException {
-        Path startPath = Path.of("").toAbsolutePath();
-        try (Stream<Path> paths = Files.walk(startPath)) {
-            return paths
-                    .filter(p -> p.getFileName().toString().equals(name))
-                    .findFirst()
-                    .orElseThrow(() -> new RuntimeException(String.format("File '%s' not found in '%s'.", name, startPath)));
-        }
+        return resolver.find(name);
+    }
+
+    public static ResourceResolver getResolver() {
+        return resolver;
     }
 }
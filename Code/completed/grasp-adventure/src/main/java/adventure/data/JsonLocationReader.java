@@ -0,0 +1,97 @@
+package adventure.data;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+// Reads location data token by token and passes every location and connection to a handler as soon as the
+// location's JSON object has been read, without building a tree of the whole file first.
+public class JsonLocationReader {
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    public static void readFile(String fileName, LocationDataHandler handler) {
+        try (InputStream inputStream = Files.newInputStream(FileFinder.find(fileName))) {
+            read(inputStream, handler);
+        } catch (IOException e) {
+            throw new RuntimeException("Error loading JSON file: " + fileName, e);
+        }
+    }
+
+    public static void readResource(String fileName, LocationDataHandler handler) {
+        try (InputStream inputStream = JsonLocationReader.class.getResourceAsStream(fileName)) {
+            if (inputStream == null) {
+                throw new IllegalArgumentException("File not found: " + fileName);
+            }
+            read(inputStream, handler);
+        } catch (IOException e) {
+            throw new RuntimeException("Error loading JSON file: " + fileName, e);
+        }
+    }
+
+    public static void read(InputStream inputStream, LocationDataHandler handler) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(inputStream)) {
+            expect(parser, parser.nextToken(), JsonToken.START_ARRAY);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                readLocation(parser, handler);
+            }
+            expect(parser, parser.currentToken(), JsonToken.END_ARRAY);
+        }
+    }
+
+    private static void readLocation(JsonParser parser, LocationDataHandler handler) throws IOException {
+        String name = null;
+        String description = "";
+        // Connections may precede the name of the location, so they are kept until the object is complete.
+        List<String> connections = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (fieldName) {
+                case "name" -> name = readString(parser, value);
+                case "description" -> description = readString(parser, value);
+                case "connections" -> readConnections(parser, value, connections);
+                default -> parser.skipChildren();
+            }
+        }
+        if (name == null) {
+            throw new IllegalArgumentException("Location without name at " + parser.currentLocation());
+        }
+        handler.handleLocation(name, description);
+        for (int i = 0; i < connections.size(); i += 2) {
+            handler.handleConnection(name, connections.get(i), connections.get(i + 1));
+        }
+    }
+
+    private static void readConnections(JsonParser parser, JsonToken value, List<String> connections)
+            throws IOException {
+        if (value != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException(String.format("Invalid type for connections: %s", value));
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String direction = parser.currentName();
+            connections.add(direction);
+            connections.add(readString(parser, parser.nextToken()));
+        }
+    }
+
+    private static String readString(JsonParser parser, JsonToken value) throws IOException {
+        if (value != JsonToken.VALUE_STRING) {
+            throw new IllegalArgumentException(
+                    String.format("Expected a string but found %s at %s", value, parser.currentLocation()));
+        }
+        return parser.getText();
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) {
+        if (actual != expected) {
+            throw new IllegalArgumentException(
+                    String.format("Expected %s but found %s at %s", expected, actual, parser.currentLocation()));
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package adventure.data;
+
+public interface LocationDataHandler {
+    void handleLocation(String name, String description);
+
+    void handleConnection(String fromName, String direction, String toName);
+}
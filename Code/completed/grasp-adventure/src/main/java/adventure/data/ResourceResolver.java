@@ -0,0 +1,150 @@
+package adventure.data;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Resolves data file names to paths. The directories of the search path and the classpath are checked first; only
+// if the file is found in neither of them, the directory tree below the walk root is searched breadth first, one
+// level at a time and in parallel, up to a maximum depth and number of directories. Results are cached until they
+// are invalidated or the cached file disappears.
+public class ResourceResolver {
+    public static final String SEARCH_PATH_PROPERTY = "adventure.data.path";
+    private static final List<String> CLASSPATH_PREFIXES = List.of("", "json/");
+
+    private final List<Path> searchPath;
+    private final Path walkRoot;
+    private final int maxWalkDepth;
+    private final int maxWalkDirectories;
+    private final Map<String, Path> cache = new ConcurrentHashMap<>();
+
+    public ResourceResolver(List<Path> searchPath, Path walkRoot, int maxWalkDepth, int maxWalkDirectories) {
+        this.searchPath = List.copyOf(searchPath);
+        this.walkRoot = walkRoot;
+        this.maxWalkDepth = maxWalkDepth;
+        this.maxWalkDirectories = maxWalkDirectories;
+    }
+
+    public static ResourceResolver fromSystemProperties() {
+        String property = System.getProperty(SEARCH_PATH_PROPERTY, "");
+        List<Path> searchPath = Arrays.stream(property.split(File.pathSeparator))
+                .filter(entry -> !entry.isBlank())
+                .map(Path::of)
+                .toList();
+        return new ResourceResolver(searchPath, Path.of("").toAbsolutePath(), 8, 10_000);
+    }
+
+    public Path find(String name) {
+        return findIfPresent(name).orElseThrow(() -> new RuntimeException(
+                String.format("File '%s' not found in search path, classpath or '%s'.", name, walkRoot)));
+    }
+
+    public Optional<Path> findIfPresent(String name) {
+        Path cached = cache.get(name);
+        if (cached != null) {
+            if (Files.isRegularFile(cached)) {
+                return Optional.of(cached);
+            }
+            cache.remove(name, cached);
+        }
+        Optional<Path> result = findInSearchPath(name)
+                .or(() -> findOnClasspath(name))
+                .or(() -> findByWalking(name));
+        result.ifPresent(path -> cache.put(name, path));
+        return result;
+    }
+
+    public void invalidate(String name) {
+        cache.remove(name);
+    }
+
+    public void invalidate(Path changedFile) {
+        Path fileName = changedFile.getFileName();
+        if (fileName != null) {
+            cache.remove(fileName.toString());
+        }
+        cache.values().removeIf(path -> path.endsWith(changedFile) || changedFile.endsWith(path));
+    }
+
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    private Optional<Path> findInSearchPath(String name) {
+        for (Path directory : searchPath) {
+            Path candidate = directory.resolve(name);
+            if (Files.isRegularFile(candidate)) {
+                return Optional.of(candidate.toAbsolutePath());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<Path> findOnClasspath(String name) {
+        ClassLoader classLoader = ResourceResolver.class.getClassLoader();
+        for (String prefix : CLASSPATH_PREFIXES) {
+            URL url = classLoader.getResource(prefix + name);
+            // Resources inside jar files have no path; they can still be read with getResourceAsStream().
+            if (url != null && url.getProtocol().equals("file")) {
+                try {
+                    return Optional.of(Path.of(url.toURI()));
+                } catch (URISyntaxException e) {
+                    // Fall through to the next prefix.
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<Path> findByWalking(String name) {
+        List<Path> level = List.of(walkRoot);
+        int numVisited = 0;
+        for (int depth = 0; depth <= maxWalkDepth && !level.isEmpty(); depth++) {
+            Optional<Path> match = level.parallelStream()
+                    .map(directory -> directory.resolve(name))
+                    .filter(Files::isRegularFile)
+                    .min(Comparator.naturalOrder());
+            if (match.isPresent()) {
+                return match;
+            }
+            numVisited += level.size();
+            if (numVisited >= maxWalkDirectories) {
+                break;
+            }
+            int remaining = maxWalkDirectories - numVisited;
+            level = level.parallelStream()
+                    .flatMap(directory -> subdirectories(directory).stream())
+                    .sorted()
+                    .limit(remaining)
+                    .toList();
+        }
+        return Optional.empty();
+    }
+
+    private static List<Path> subdirectories(Path directory) {
+        List<Path> result = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory, Files::isDirectory)) {
+            for (Path entry : entries) {
+                // Hidden directories such as .git or .idea do not contain data files.
+                if (!entry.getFileName().toString().startsWith(".")) {
+                    result.add(entry);
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            // Directories that cannot be read are skipped, as they would be by a manual search.
+        }
+        return result;
+    }
+}
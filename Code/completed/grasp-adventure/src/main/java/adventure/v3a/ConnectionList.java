@@ -0,0 +1,95 @@
+package adventure.v3a;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+// List of connections that keeps an index from (from location, direction) to the connection, so that connected
+// locations can be found without scanning all connections. If several connections have the same source and
+// direction, the first one in the list is indexed, as it would be found by a linear scan.
+public final class ConnectionList extends AbstractList<Connection> implements RandomAccess {
+    private final List<Connection> connections;
+    private final Map<Key, Connection> index = new HashMap<>();
+
+    private record Key(Location from, String direction) {
+    }
+
+    public ConnectionList() {
+        this.connections = new ArrayList<>();
+    }
+
+    public ConnectionList(Collection<Connection> connections) {
+        this.connections = new ArrayList<>(connections.size());
+        addAll(connections);
+    }
+
+    public Connection find(Location from, String direction) {
+        return index.get(new Key(from, direction));
+    }
+
+    @Override
+    public Connection get(int i) {
+        return connections.get(i);
+    }
+
+    @Override
+    public int size() {
+        return connections.size();
+    }
+
+    @Override
+    public void add(int i, Connection connection) {
+        Objects.requireNonNull(connection);
+        connections.add(i, connection);
+        if (i == connections.size() - 1) {
+            index.putIfAbsent(keyOf(connection), connection);
+        } else {
+            reindex(keyOf(connection));
+        }
+        modCount++;
+    }
+
+    @Override
+    public Connection set(int i, Connection connection) {
+        Objects.requireNonNull(connection);
+        Connection previous = connections.set(i, connection);
+        reindex(keyOf(previous));
+        reindex(keyOf(connection));
+        return previous;
+    }
+
+    @Override
+    public Connection remove(int i) {
+        Connection previous = connections.remove(i);
+        reindex(keyOf(previous));
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        connections.clear();
+        index.clear();
+        modCount++;
+    }
+
+    private static Key keyOf(Connection connection) {
+        return new Key(connection.from(), connection.direction());
+    }
+
+    // Insertions in the middle of the list and removals may change which connection comes first for a key.
+    private void reindex(Key key) {
+        index.remove(key);
+        for (Connection connection : connections) {
+            if (keyOf(connection).equals(key)) {
+                index.put(key, connection);
+                return;
+            }
+        }
+    }
+}
@@ -2,12 +2,14 @@ package adventure.v3a;
 
 import adventure.data.JsonLoader;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-public record World(Map<String, Location> locations, String initialLocationName, List<Connection> connections) {
+// The connections are a ConnectionList, so that getConnectedLocation() can use its index; connections() returns the
+// list that was passed in, and edits through it keep the index up to date.
+public record World(Map<String, Location> locations, String initialLocationName, ConnectionList connections) {
+
     public Location getLocationByName(String name) {
         return locations.get(name);
     }
@@ -22,7 +24,7 @@ public record World(Map<String, Location> locations, String initialLocationName,
         Map<String, Location> locations = locationData.stream().map(Location::fromData).collect(
                 Collectors.toMap(Location::name, location -> location));
         String initialLocationName = (String) locationData.get(0).get("name");
-        List<Connection> connections = new ArrayList<>();
+        ConnectionList connections = new ConnectionList();
         for (Map<String, Object> fromLocationData : locationData) {
             String fromName = (String) fromLocationData.get("name");
             Object targets = fromLocationData.get("connections");
@@ -52,10 +54,9 @@ public record World(Map<String, Location> locations, String initialLocationName,
     }
 
     public Location getConnectedLocation(Location loc, String direction) {
-        for (Connection c : connections) {
-            if (c.from().equals(loc) && c.direction().equals(direction))
-                return c.to();
-        }
+        Connection c = connections.find(loc, direction);
+        if (c != null)
+            return c.to();
         throw new IllegalArgumentException(
                 String.format("No connected location for %s in direction %s", loc, direction));
     }
@@ -6,6 +6,11 @@ public interface Action {
     String getDescription();
     EnumSet<ActionTag> getTags();
 
+    // Unlike getTags(), this does not create a new set.
+    default boolean hasTag(ActionTag tag) {
+        return getTags().contains(tag);
+    }
+
     void perform(Player instigator);
 
 
@@ -96,7 +96,7 @@ public class Player {
 
     private Action selectActionWithTag(ActionTag tag, List<Action> actions) {
         for (Action action : actions) {
-            if (action.getTags().contains(tag)) {
+            if (action.hasTag(tag)) {
                 return action;
             }
         }
@@ -7,6 +7,8 @@ import adventure.v5b.Player;
 import java.util.EnumSet;
 
 public class ErrorAction implements Action {
+    private static final EnumSet<ActionTag> TAGS = EnumSet.of(ActionTag.ERROR, ActionTag.DEBUG_ONLY);
+
     @Override
     public String getDescription() {
         return "Raise an error for testing purposes.";
@@ -14,7 +16,12 @@ public class ErrorAction implements Action {
 
     @Override
     public EnumSet<ActionTag> getTags() {
-        return EnumSet.of(ActionTag.ERROR, ActionTag.DEBUG_ONLY);
+        return TAGS.clone();
+    }
+
+    @Override
+    public boolean hasTag(ActionTag tag) {
+        return TAGS.contains(tag);
     }
 
     @Override
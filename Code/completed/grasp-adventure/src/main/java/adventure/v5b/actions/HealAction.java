@@ -7,6 +7,8 @@ import adventure.v5b.Player;
 import java.util.EnumSet;
 
 public class HealAction implements Action {
+    private static final EnumSet<ActionTag> TAGS = EnumSet.of(ActionTag.HELPFUL);
+
     @Override
     public String getDescription() {
         return "Heal all characters.";
@@ -14,7 +16,12 @@ public class HealAction implements Action {
 
     @Override
     public EnumSet<ActionTag> getTags() {
-        return EnumSet.of(ActionTag.HELPFUL);
+        return TAGS.clone();
+    }
+
+    @Override
+    public boolean hasTag(ActionTag tag) {
+        return TAGS.contains(tag);
     }
 
     @Override
@@ -7,6 +7,8 @@ import adventure.v5b.Player;
 import java.util.EnumSet;
 
 public class InvestigateAction implements Action {
+    private static final EnumSet<ActionTag> TAGS = EnumSet.of(ActionTag.INVESTIGATE, ActionTag.AGGRESSIVE);
+
     @Override
     public String getDescription() {
         return "Investigate the current location.";
@@ -14,7 +16,12 @@ public class InvestigateAction implements Action {
 
     @Override
     public EnumSet<ActionTag> getTags() {
-        return EnumSet.of(ActionTag.INVESTIGATE, ActionTag.AGGRESSIVE);
+        return TAGS.clone();
+    }
+
+    @Override
+    public boolean hasTag(ActionTag tag) {
+        return TAGS.contains(tag);
     }
 
     @Override
@@ -7,6 +7,8 @@ import adventure.v5b.Player;
 import java.util.EnumSet;
 
 public class MoveAction implements Action {
+    private static final EnumSet<ActionTag> TAGS = EnumSet.of(ActionTag.MOVE);
+
     public MoveAction(String direction) {
         this.direction = direction;
     }
@@ -18,7 +20,12 @@ public class MoveAction implements Action {
 
     @Override
     public EnumSet<ActionTag> getTags() {
-        return EnumSet.of(ActionTag.MOVE);
+        return TAGS.clone();
+    }
+
+    @Override
+    public boolean hasTag(ActionTag tag) {
+        return TAGS.contains(tag);
     }
 
     @Override
@@ -7,6 +7,8 @@ import adventure.v5b.Player;
 import java.util.EnumSet;
 
 public class QuitAction implements Action {
+    private static final EnumSet<ActionTag> TAGS = EnumSet.of(ActionTag.QUIT);
+
     @Override
     public String getDescription() {
         return "Exit the game.";
@@ -14,7 +16,12 @@ public class QuitAction implements Action {
 
     @Override
     public EnumSet<ActionTag> getTags() {
-        return EnumSet.of(ActionTag.QUIT);
+        return TAGS.clone();
+    }
+
+    @Override
+    public boolean hasTag(ActionTag tag) {
+        return TAGS.contains(tag);
     }
 
     @Override
@@ -7,6 +7,8 @@ import adventure.v5b.Player;
 import java.util.EnumSet;
 
 public class SkipTurnAction implements Action {
+    private static final EnumSet<ActionTag> TAGS = EnumSet.of(ActionTag.REST);
+
     @Override
     public String getDescription() {
         return "Skip a turn";
@@ -14,7 +16,12 @@ public class SkipTurnAction implements Action {
 
     @Override
     public EnumSet<ActionTag> getTags() {
-        return EnumSet.of(ActionTag.REST);
+        return TAGS.clone();
+    }
+
+    @Override
+    public boolean hasTag(ActionTag tag) {
+        return TAGS.contains(tag);
     }
 
     @Override
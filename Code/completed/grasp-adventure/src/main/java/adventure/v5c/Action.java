@@ -1,10 +1,10 @@
 package adventure.v5c;
 
-import java.util.EnumSet;
+import java.util.Set;
 
 public interface Action {
     String getDescription();
-    EnumSet<ActionTag> getTags();
+    Set<ActionTag> getTags();
 
     void perform(Player instigator);
 
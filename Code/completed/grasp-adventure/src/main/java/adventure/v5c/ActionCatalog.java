@@ -0,0 +1,99 @@
+package adventure.v5c;
+
+import adventure.v5c.actions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Pre-built, immutable and tag-indexed lists of the possible actions for every location of a WorldGraph. Stateless
+// actions are shared singletons and the move actions of a location are created once, so that looking up the possible
+// actions of a player does not allocate once the list for its location has been built. The lists are rebuilt when
+// the connections of the graph change.
+//
+// The catalog is shared by players that take their turns in parallel. All lists for one version of the graph are
+// kept in a snapshot that is replaced as a whole, so a reader never sees the lists of two versions mixed.
+public class ActionCatalog {
+    private static final int NUM_MODES = 3;
+
+    private final WorldGraph graph;
+    private volatile Snapshot snapshot;
+
+    public ActionCatalog(WorldGraph graph) {
+        this.graph = graph;
+        this.snapshot = new Snapshot(graph);
+    }
+
+    public WorldGraph getGraph() {
+        return graph;
+    }
+
+    public List<Action> getPossibleActions(Location location, boolean isInteractive, boolean isDebugModeActive) {
+        int index = graph.checkedIndexOf(location);
+        Snapshot current = snapshot;
+        if (current.modificationCount != graph.modificationCount() || index >= current.numLocations) {
+            current = refresh();
+        }
+        int mode = isInteractive ? (isDebugModeActive ? 2 : 1) : 0;
+        int slot = mode * current.numLocations + index;
+        List<Action> result = current.possibleActions.get(slot);
+        if (result == null) {
+            // Concurrent callers may build the same list twice; the lists are equal and immutable.
+            result = buildPossibleActions(current, index, mode);
+            current.possibleActions.set(slot, result);
+        }
+        return result;
+    }
+
+    private List<Action> buildPossibleActions(Snapshot current, int index, int mode) {
+        List<Action> actions = new ArrayList<>(getMoveActions(current, index));
+        actions.add(InvestigateAction.INSTANCE);
+        actions.add(SkipTurnAction.INSTANCE);
+        if (mode > 0) {
+            actions.add(QuitAction.INSTANCE);
+            if (mode > 1) {
+                actions.add(ErrorAction.INSTANCE);
+            }
+        }
+        return ActionSet.of(actions);
+    }
+
+    private List<Action> getMoveActions(Snapshot current, int index) {
+        List<Action> result = current.moveActions.get(index);
+        if (result == null) {
+            List<Action> actions = new ArrayList<>();
+            for (int i = 0; i < graph.connectionCount(index); i++) {
+                int directionId = graph.connectionDirection(index, i);
+                actions.add(new MoveAction(graph.directionName(directionId), directionId));
+            }
+            result = List.copyOf(actions);
+            current.moveActions.set(index, result);
+        }
+        return result;
+    }
+
+    private synchronized Snapshot refresh() {
+        Snapshot current = snapshot;
+        if (current.modificationCount != graph.modificationCount()
+                || current.numLocations != graph.locationCount()) {
+            current = new Snapshot(graph);
+            snapshot = current;
+        }
+        return current;
+    }
+
+    private static final class Snapshot {
+        final int modificationCount;
+        final int numLocations;
+        final AtomicReferenceArray<List<Action>> moveActions;
+        // The list for mode m and location i is at m * numLocations + i.
+        final AtomicReferenceArray<List<Action>> possibleActions;
+
+        Snapshot(WorldGraph graph) {
+            this.modificationCount = graph.modificationCount();
+            this.numLocations = graph.locationCount();
+            this.moveActions = new AtomicReferenceArray<>(numLocations);
+            this.possibleActions = new AtomicReferenceArray<>(NUM_MODES * numLocations);
+        }
+    }
+}
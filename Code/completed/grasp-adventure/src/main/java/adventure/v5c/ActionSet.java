@@ -0,0 +1,98 @@
+package adventure.v5c;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+
+// Immutable list of actions with an index of their tags. For every tag, a bitmask records which actions have the
+// tag, so the first action with a tag is known without looking at the actions, and queries for several tags only
+// combine the bitmasks.
+public final class ActionSet extends AbstractList<Action> implements RandomAccess {
+    private static final ActionTag[] TAGS = ActionTag.values();
+    private static final int NOT_FOUND = -1;
+
+    private final Action[] actions;
+    // masks[tag.ordinal()][i / 64] has bit i % 64 set if actions[i] has the tag.
+    private final long[][] masks;
+    private final int[] firstIndex;
+
+    private ActionSet(List<Action> actions) {
+        this.actions = actions.toArray(Action[]::new);
+        int numWords = (this.actions.length + 63) / 64;
+        this.masks = new long[TAGS.length][numWords];
+        this.firstIndex = new int[TAGS.length];
+        Arrays.fill(firstIndex, NOT_FOUND);
+        for (int i = this.actions.length - 1; i >= 0; i--) {
+            for (ActionTag tag : this.actions[i].getTags()) {
+                masks[tag.ordinal()][i >>> 6] |= 1L << i;
+                firstIndex[tag.ordinal()] = i;
+            }
+        }
+    }
+
+    public static ActionSet of(List<Action> actions) {
+        if (actions instanceof ActionSet actionSet) {
+            return actionSet;
+        }
+        return new ActionSet(actions);
+    }
+
+    @Override
+    public Action get(int index) {
+        return actions[index];
+    }
+
+    @Override
+    public int size() {
+        return actions.length;
+    }
+
+    public boolean hasActionWithTag(ActionTag tag) {
+        return firstIndex[tag.ordinal()] != NOT_FOUND;
+    }
+
+    public int countActionsWithTag(ActionTag tag) {
+        int result = 0;
+        for (long word : masks[tag.ordinal()]) {
+            result += Long.bitCount(word);
+        }
+        return result;
+    }
+
+    // The first action with the given tag, or null if there is none.
+    public Action firstActionWithTag(ActionTag tag) {
+        int index = firstIndex[tag.ordinal()];
+        return index == NOT_FOUND ? null : actions[index];
+    }
+
+    // The first action that has all the given tags, or null if there is none.
+    public Action firstActionWithAllTags(Set<ActionTag> tags) {
+        for (int word = 0; word < masks[0].length; word++) {
+            long candidates = -1L;
+            // Iterating over the enum constants avoids allocating an iterator for the set.
+            for (ActionTag tag : TAGS) {
+                if (tags.contains(tag)) {
+                    candidates &= masks[tag.ordinal()][word];
+                }
+            }
+            if (candidates != 0) {
+                return actions[(word << 6) + Long.numberOfTrailingZeros(candidates)];
+            }
+        }
+        return null;
+    }
+
+    // The first action that has at least one of the given tags, or null if there is none.
+    public Action firstActionWithAnyTag(Set<ActionTag> tags) {
+        int result = NOT_FOUND;
+        for (ActionTag tag : TAGS) {
+            int index = firstIndex[tag.ordinal()];
+            if (index != NOT_FOUND && (result == NOT_FOUND || index < result) && tags.contains(tag)) {
+                result = index;
+            }
+        }
+        return result == NOT_FOUND ? null : actions[result];
+    }
+}
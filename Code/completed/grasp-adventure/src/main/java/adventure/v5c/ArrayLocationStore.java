@@ -0,0 +1,79 @@
+package adventure.v5c;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Equal descriptions share a single String instance. Names can be looked up while locations are added.
+class ArrayLocationStore implements LocationStore {
+    private String[] names;
+    private String[] descriptions;
+    private int size;
+    private final Map<String, Integer> indices = new ConcurrentHashMap<>();
+    private final StringPool descriptionPool;
+
+    ArrayLocationStore(String[] names, String[] descriptions) {
+        this(names, descriptions, new StringPool());
+    }
+
+    ArrayLocationStore(String[] names, String[] descriptions, StringPool descriptionPool) {
+        this.names = names;
+        this.descriptions = descriptions;
+        this.size = names.length;
+        this.descriptionPool = descriptionPool;
+        for (int i = 0; i < names.length; i++) {
+            indices.put(names[i], i);
+            descriptions[i] = descriptionPool.intern(descriptions[i]);
+        }
+    }
+
+    static ArrayLocationStore copyOf(LocationStore store) {
+        String[] names = new String[store.size()];
+        String[] descriptions = new String[store.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = store.name(i);
+            descriptions[i] = store.description(i);
+        }
+        return new ArrayLocationStore(names, descriptions);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String name(int index) {
+        return names[index];
+    }
+
+    @Override
+    public String description(int index) {
+        return descriptions[index];
+    }
+
+    @Override
+    public int indexOf(String name) {
+        return indices.getOrDefault(name, WorldGraph.NO_ID);
+    }
+
+    int add(String name, String description) {
+        if (size == names.length) {
+            names = Arrays.copyOf(names, Math.max(16, size * 2));
+            descriptions = Arrays.copyOf(descriptions, names.length);
+        }
+        names[size] = name;
+        descriptions[size] = descriptionPool.intern(description);
+        indices.put(name, size);
+        return size++;
+    }
+
+    void setDescription(int index, String description) {
+        descriptions[index] = descriptionPool.intern(description);
+    }
+
+    // The name and description are kept, but the location can no longer be found by name.
+    void remove(int index) {
+        indices.remove(names[index], index);
+    }
+}
@@ -0,0 +1,32 @@
+package adventure.v5c;
+
+// Measurements of a batch run. Latencies are per turn of a single player; allocatedBytes is -1 if the JVM cannot
+// measure allocations.
+public record BatchResult(
+        int numPlayers, int numTurns, long elapsedNanos, long p50Nanos, long p99Nanos, long maxNanos,
+        long allocatedBytes) {
+    public long totalTurns() {
+        return (long) numPlayers * numTurns;
+    }
+
+    public double turnsPerSecond() {
+        return elapsedNanos == 0 ? 0 : totalTurns() * 1e9 / elapsedNanos;
+    }
+
+    public double allocatedBytesPerSecond() {
+        return allocatedBytes < 0 || elapsedNanos == 0 ? -1 : allocatedBytes * 1e9 / elapsedNanos;
+    }
+
+    public double allocatedBytesPerTurn() {
+        return allocatedBytes < 0 || totalTurns() == 0 ? -1 : (double) allocatedBytes / totalTurns();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "%d players x %d turns in %.3f s: %.0f turns/s, latency p50 %d ns, p99 %d ns, max %d ns, "
+                        + "allocation %.1f MB/s (%.1f bytes/turn)",
+                numPlayers, numTurns, elapsedNanos / 1e9, turnsPerSecond(), p50Nanos, p99Nanos, maxNanos,
+                allocatedBytesPerSecond() / (1024 * 1024), allocatedBytesPerTurn());
+    }
+}
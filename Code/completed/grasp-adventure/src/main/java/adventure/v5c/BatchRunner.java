@@ -0,0 +1,118 @@
+package adventure.v5c;
+
+import adventure.v5c.strategies.SelectAggressiveActionStrategy;
+import adventure.v5c.strategies.SelectFirstActionStrategy;
+import adventure.v5c.strategies.SelectHelpfulActionStrategy;
+import adventure.v5c.strategies.SelectRandomActionStrategy;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+
+// Runs many players through a world without any user interface and measures how fast the turns are taken. The world
+// is loaded once and shared by all runs. Only non-interactive strategies can be used; in v5c, output is only written
+// by interactive strategies, to the Terminal they are given, so batch runs do not print anything while they measure.
+public class BatchRunner {
+    private final World world;
+    private final Supplier<SelectActionStrategy> strategyFactory;
+    private final long seed;
+    private boolean useActionCatalog = true;
+
+    public BatchRunner(World world, Supplier<SelectActionStrategy> strategyFactory, long seed) {
+        this.world = world;
+        this.strategyFactory = strategyFactory;
+        this.seed = seed;
+    }
+
+    public void setUseActionCatalog(boolean useActionCatalog) {
+        this.useActionCatalog = useActionCatalog;
+    }
+
+    public static Supplier<SelectActionStrategy> strategyByName(String name) {
+        return switch (name) {
+            case "first" -> SelectFirstActionStrategy::new;
+            case "random" -> SelectRandomActionStrategy::new;
+            case "aggressive" -> SelectAggressiveActionStrategy::new;
+            case "helpful" -> SelectHelpfulActionStrategy::new;
+            default -> throw new IllegalArgumentException("Unknown strategy: " + name);
+        };
+    }
+
+    public List<Player> createPlayers(int numPlayers) {
+        Location initialLocation = world.getLocationByName(world.initialLocationName());
+        ActionCatalog actionCatalog = useActionCatalog ? new ActionCatalog(world.graph()) : null;
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Player> players = new ArrayList<>(numPlayers);
+        for (int i = 0; i < numPlayers; i++) {
+            Player player = new Player("Player " + i, initialLocation);
+            player.setStrategy(strategyFactory.get());
+            if (player.isInteractive()) {
+                throw new IllegalArgumentException("Interactive strategies cannot be used in batch runs");
+            }
+            player.setRandom(random.split());
+            player.setActionCatalog(actionCatalog);
+            players.add(player);
+        }
+        return players;
+    }
+
+    // Takes numWarmupTurns unmeasured turns first, so that the measured turns run on compiled code.
+    public BatchResult run(int numPlayers, int numTurns, int numWarmupTurns) {
+        List<Player> players = createPlayers(numPlayers);
+        for (int turn = 0; turn < numWarmupTurns; turn++) {
+            for (Player player : players) {
+                player.takeTurn();
+            }
+        }
+        return measure(players, numTurns);
+    }
+
+    private static BatchResult measure(List<Player> players, int numTurns) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        long allocatedBefore = allocatedBytes(threadBean);
+        long start = System.nanoTime();
+        long turnStart = start;
+        for (int turn = 0; turn < numTurns; turn++) {
+            for (int i = 0; i < players.size(); i++) {
+                players.get(i).takeTurn();
+                long turnEnd = System.nanoTime();
+                histogram.record(turnEnd - turnStart);
+                turnStart = turnEnd;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocatedAfter = allocatedBytes(threadBean);
+        long allocated = allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore;
+        return new BatchResult(
+                players.size(), numTurns, elapsed, histogram.percentile(0.5), histogram.percentile(0.99),
+                histogram.max(), allocated);
+    }
+
+    private static long allocatedBytes(ThreadMXBean threadBean) {
+        if (threadBean instanceof com.sun.management.ThreadMXBean bean && bean.isThreadAllocatedMemorySupported()) {
+            return bean.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    public static void main(String[] args) {
+        if (args.length < 4 || args.length > 6) {
+            System.err.println(
+                    "Usage: BatchRunner <locations.json | snapshot file> <players> <turns> "
+                            + "<first|random|aggressive|helpful> [seed] [warmup turns]");
+            System.exit(1);
+        }
+        World world = args[0].endsWith(".json")
+                ? WorldFactory.fromJsonFile(args[0]) : WorldFactory.fromSnapshot(Path.of(args[0]));
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 42;
+        int numWarmupTurns = args.length > 5 ? Integer.parseInt(args[5]) : 1_000;
+        BatchRunner runner = new BatchRunner(world, strategyByName(args[3]), seed);
+        BatchResult result = runner.run(Integer.parseInt(args[1]), Integer.parseInt(args[2]), numWarmupTurns);
+        System.out.println(result);
+    }
+}
@@ -0,0 +1,18 @@
+package adventure.v5c;
+
+// Counters of a LocationCache since it was created or its statistics were last reset.
+public record CacheStatistics(long hits, long misses, long evictions, int residentCount, int capacity) {
+    public long requests() {
+        return hits + misses;
+    }
+
+    public double hitRate() {
+        return requests() == 0 ? 0.0 : (double) hits / requests();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%,d requests, %.1f%% hits, %,d evictions, %,d/%,d resident",
+                requests(), 100.0 * hitRate(), evictions, residentCount, capacity);
+    }
+}
@@ -0,0 +1,143 @@
+package adventure.v5c;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+// Map view of the connections of a single location that is stored in a WorldGraph.
+class CompiledConnections extends AbstractMap<String, Location> {
+    private final WorldGraph graph;
+    private final int locationIndex;
+    private List<String> directions;
+    private int directionsModificationCount;
+
+    CompiledConnections(WorldGraph graph, int locationIndex) {
+        this.graph = graph;
+        this.locationIndex = locationIndex;
+    }
+
+    WorldGraph graph() {
+        return graph;
+    }
+
+    int locationIndex() {
+        return locationIndex;
+    }
+
+    Location get(int directionId) {
+        return locationOrNull(graph.target(locationIndex, directionId));
+    }
+
+    List<String> directions() {
+        List<String> result = directions;
+        // The graph may also be changed without using this map, e.g., when a world is reloaded.
+        if (result == null || directionsModificationCount != graph.modificationCount()) {
+            directionsModificationCount = graph.modificationCount();
+            List<String> names = new ArrayList<>();
+            for (int i = 0; i < size(); i++) {
+                names.add(graph.directionName(graph.connectionDirection(locationIndex, i)));
+            }
+            result = List.copyOf(names);
+            directions = result;
+        }
+        return result;
+    }
+
+    int[] directionIds() {
+        int[] result = new int[size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = graph.connectionDirection(locationIndex, i);
+        }
+        return result;
+    }
+
+    private Location locationOrNull(int index) {
+        return index == WorldGraph.NO_ID ? null : graph.location(index);
+    }
+
+    @Override
+    public int size() {
+        return graph.connectionCount(locationIndex);
+    }
+
+    @Override
+    public Location get(Object key) {
+        int directionId = graph.directionId(key);
+        return directionId == WorldGraph.NO_ID ? null : get(directionId);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        int directionId = graph.directionId(key);
+        return directionId != WorldGraph.NO_ID && graph.target(locationIndex, directionId) != WorldGraph.NO_ID;
+    }
+
+    @Override
+    public Location put(String key, Location value) {
+        int targetIndex = graph.checkedIndexOf(value);
+        int previous = graph.connect(locationIndex, key, targetIndex);
+        directions = null;
+        return locationOrNull(previous);
+    }
+
+    @Override
+    public Location remove(Object key) {
+        if (!(key instanceof String direction)) {
+            return null;
+        }
+        int previous = graph.disconnect(locationIndex, direction);
+        directions = null;
+        return locationOrNull(previous);
+    }
+
+    // Connections are identified by graph and location index: paged graphs may create several views of the same
+    // location, and comparing or hashing their entries would recurse through the connected locations, which never
+    // ends in worlds with cycles.
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof CompiledConnections compiled
+                && compiled.graph == graph && compiled.locationIndex == locationIndex;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * System.identityHashCode(graph) + locationIndex;
+    }
+
+    @Override
+    public Set<Entry<String, Location>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Location>> iterator() {
+                return new Iterator<>() {
+                    private int next = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < size();
+                    }
+
+                    @Override
+                    public Entry<String, Location> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        String direction = graph.directionName(graph.connectionDirection(locationIndex, next));
+                        Location target = locationOrNull(graph.connectionTarget(locationIndex, next));
+                        next++;
+                        return new SimpleImmutableEntry<>(direction, target);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return CompiledConnections.this.size();
+            }
+        };
+    }
+}
@@ -1,6 +1,6 @@
 package adventure.v5c;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -9,7 +9,7 @@ public record Location(String name, String description, Map<String, Location> co
     public static Location fromData(Map<String, Object> data) {
         String name = (String) data.get("name");
         String desc = (String) data.getOrDefault("description", "");
-        return new Location(name, desc, new HashMap<>());
+        return new Location(name, desc, new SmallConnectionMap());
     }
 
     public Location getConnectedLocation(String name) {
@@ -20,14 +20,37 @@ public record Location(String name, String description, Map<String, Location> co
         return result;
     }
 
+    public Location getConnectedLocation(int directionId) {
+        Location result = null;
+        if (connectedLocations instanceof CompiledConnections compiled) {
+            result = compiled.get(directionId);
+        }
+        if (result == null) {
+            throw new IllegalArgumentException("No such direction id: " + directionId);
+        }
+        return result;
+    }
+
     public void setConnectedLocation(String name, Location location) {
         connectedLocations.put(name, location);
     }
 
     public List<String> getConnectedDirections() {
+        if (connectedLocations instanceof CompiledConnections compiled) {
+            return compiled.directions();
+        }
         return connectedLocations.keySet().stream().toList();
     }
 
+    public int[] getConnectedDirectionIds() {
+        if (connectedLocations instanceof CompiledConnections compiled) {
+            return compiled.directionIds();
+        }
+        int[] result = new int[connectedLocations.size()];
+        Arrays.fill(result, WorldGraph.NO_ID);
+        return result;
+    }
+
     @Override
     public String toString() {
         return String.format("Location{name='%s', description='%s', directions=[%s]}", name, description,
@@ -0,0 +1,59 @@
+package adventure.v5c;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+// Size-bounded cache of the Location objects of a WorldGraph that evicts the least recently used location when it is
+// full. Evicted locations are created again from the location store when they are next requested; objects that are
+// still referenced, e.g., by players, remain valid views of the graph.
+class LocationCache {
+    private final int capacity;
+    private final LinkedHashMap<Integer, Location> locations;
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    LocationCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Cache capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.locations = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Location> eldest) {
+                if (size() > LocationCache.this.capacity) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    synchronized Location get(int index, IntFunction<Location> loader) {
+        Location location = locations.get(index);
+        if (location != null) {
+            hits++;
+            return location;
+        }
+        misses++;
+        location = loader.apply(index);
+        locations.put(index, location);
+        return location;
+    }
+
+    synchronized void remove(int index) {
+        locations.remove(index);
+    }
+
+    synchronized CacheStatistics statistics() {
+        return new CacheStatistics(hits, misses, evictions, locations.size(), capacity);
+    }
+
+    synchronized void resetStatistics() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+}
@@ -0,0 +1,12 @@
+package adventure.v5c;
+
+// Source of the names and descriptions of the locations in a WorldGraph.
+interface LocationStore {
+    int size();
+
+    String name(int index);
+
+    String description(int index);
+
+    int indexOf(String name);
+}
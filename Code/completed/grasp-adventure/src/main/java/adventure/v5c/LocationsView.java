@@ -0,0 +1,74 @@
+package adventure.v5c;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+// Read-only map from location names to the locations of a WorldGraph.
+class LocationsView extends AbstractMap<String, Location> {
+    private final WorldGraph graph;
+
+    LocationsView(WorldGraph graph) {
+        this.graph = graph;
+    }
+
+    @Override
+    public int size() {
+        return graph.liveLocationCount();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String name && graph.indexOf(name) != WorldGraph.NO_ID;
+    }
+
+    @Override
+    public Location get(Object key) {
+        if (!(key instanceof String name)) {
+            return null;
+        }
+        int index = graph.indexOf(name);
+        return index == WorldGraph.NO_ID ? null : graph.location(index);
+    }
+
+    @Override
+    public Set<Entry<String, Location>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Location>> iterator() {
+                return new Iterator<>() {
+                    private int next = skipRemoved(0);
+
+                    private int skipRemoved(int index) {
+                        while (index < graph.locationCount() && graph.isRemoved(index)) {
+                            index++;
+                        }
+                        return index;
+                    }
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < graph.locationCount();
+                    }
+
+                    @Override
+                    public Entry<String, Location> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        Location location = graph.location(next);
+                        next = skipRemoved(next + 1);
+                        return new SimpleImmutableEntry<>(location.name(), location);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return graph.liveLocationCount();
+            }
+        };
+    }
+}
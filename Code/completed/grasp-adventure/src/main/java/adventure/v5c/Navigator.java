@@ -0,0 +1,553 @@
+package adventure.v5c;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Shortest paths, reachability and distances between the locations of a world. Every connection counts as one step.
+// Paths are cached per (from, to) pair; the cache, the reverse connections and the landmark tables are discarded
+// whenever the connections of the world change, e.g., through Location.setConnectedLocation(). The searches work on
+// per-thread scratch arrays, so a query does not allocate tables for the whole world.
+//
+// Landmarks are locations whose distances to and from all other locations are precomputed. By the triangle
+// inequality they give lower bounds for the remaining distance that A* uses as its heuristic (ALT search).
+public class Navigator {
+    public enum Algorithm {BREADTH_FIRST, BIDIRECTIONAL, A_STAR}
+
+    public static final int UNREACHABLE = -1;
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private final WorldGraph graph;
+    private final Algorithm algorithm;
+    private final int maxCacheSize;
+    private final String initialLocationName;
+    private final Map<Long, Optional<List<String>>> cache = new ConcurrentHashMap<>();
+    private final ThreadLocal<SearchState> searchStates = ThreadLocal.withInitial(SearchState::new);
+    private int modificationCount;
+    private int numLandmarks = 0;
+    private ReverseConnections reverseConnections;
+    private int[][] distancesFromLandmarks;
+    private int[][] distancesToLandmarks;
+
+    public Navigator(World world) {
+        this(world, Algorithm.BIDIRECTIONAL, 100_000);
+    }
+
+    public Navigator(World world, Algorithm algorithm, int maxCacheSize) {
+        this.graph = world.graph();
+        this.initialLocationName = world.initialLocationName();
+        this.algorithm = algorithm;
+        this.maxCacheSize = maxCacheSize;
+        this.modificationCount = graph.modificationCount();
+    }
+
+    public Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    // Directions to follow from one location to reach the other, or empty if there is no path.
+    public Optional<List<String>> findPath(Location from, Location to) {
+        int fromIndex = indexOf(from);
+        int toIndex = indexOf(to);
+        checkForModifications();
+        long key = ((long) fromIndex << 32) | toIndex;
+        Optional<List<String>> result = cache.get(key);
+        if (result == null) {
+            result = Optional.ofNullable(search(fromIndex, toIndex));
+            if (cache.size() >= maxCacheSize) {
+                cache.clear();
+            }
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    public int distance(Location from, Location to) {
+        return findPath(from, to).map(List::size).orElse(UNREACHABLE);
+    }
+
+    public boolean isReachable(Location from, Location to) {
+        return findPath(from, to).isPresent();
+    }
+
+    // Number of steps to every location that is reachable from the given location, keyed by location name.
+    public Map<String, Integer> distancesFrom(Location from) {
+        int[] distances = breadthFirstDistances(indexOf(from), false);
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (int i = 0; i < distances.length; i++) {
+            if (distances[i] != INFINITY) {
+                result.put(graph.location(i).name(), distances[i]);
+            }
+        }
+        return result;
+    }
+
+    // Selects landmarks that are far away from each other and precomputes their distance tables. Without landmarks,
+    // A* degenerates to a breadth-first search.
+    public synchronized void precomputeLandmarks(int count) {
+        checkForModifications();
+        numLandmarks = count;
+        computeLandmarks();
+        cache.clear();
+    }
+
+    public synchronized int landmarkCount() {
+        return distancesFromLandmarks == null ? 0 : distancesFromLandmarks.length;
+    }
+
+    public int cacheSize() {
+        return cache.size();
+    }
+
+    private int indexOf(Location location) {
+        return graph.checkedIndexOf(location);
+    }
+
+    private synchronized void checkForModifications() {
+        if (modificationCount != graph.modificationCount()) {
+            modificationCount = graph.modificationCount();
+            cache.clear();
+            reverseConnections = null;
+            distancesFromLandmarks = null;
+            distancesToLandmarks = null;
+        }
+    }
+
+    private List<String> search(int from, int to) {
+        if (from == to) {
+            return List.of();
+        }
+        return switch (algorithm) {
+            case BREADTH_FIRST -> breadthFirstSearch(from, to);
+            case BIDIRECTIONAL -> bidirectionalSearch(from, to);
+            case A_STAR -> aStarSearch(from, to);
+        };
+    }
+
+    private List<String> breadthFirstSearch(int from, int to) {
+        SearchState state = searchState(graph.locationCount());
+        int[] previous = state.previous;
+        int[] previousDirection = state.previousDirection;
+        int[] queue = state.forwardFrontier;
+        state.markForward(from);
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = from;
+        while (head < tail) {
+            int location = queue[head++];
+            for (int i = 0; i < graph.connectionCount(location); i++) {
+                int target = graph.connectionTarget(location, i);
+                if (target != WorldGraph.NO_ID && !state.isForwardMarked(target)) {
+                    state.markForward(target);
+                    previous[target] = location;
+                    previousDirection[target] = graph.connectionDirection(location, i);
+                    if (target == to) {
+                        return pathTo(to, from, previous, previousDirection);
+                    }
+                    queue[tail++] = target;
+                }
+            }
+        }
+        return null;
+    }
+
+    // Expands the smaller of the two frontiers one complete level at a time. Once the searches meet, the shortest
+    // path goes through the meeting location with the smallest total distance found in that level.
+    private List<String> bidirectionalSearch(int from, int to) {
+        ReverseConnections reverse = reverseConnections();
+        SearchState state = searchState(graph.locationCount());
+        int[] forwardDistance = state.forwardDistance;
+        int[] backwardDistance = state.backwardDistance;
+        int[] previous = state.previous;
+        int[] previousDirection = state.previousDirection;
+        int[] next = state.next;
+        int[] nextDirection = state.nextDirection;
+        state.markForward(from);
+        forwardDistance[from] = 0;
+        state.markBackward(to);
+        backwardDistance[to] = 0;
+        int[] forwardFrontier = state.forwardFrontier;
+        int[] backwardFrontier = state.backwardFrontier;
+        int[] forwardNext = state.forwardNext;
+        int[] backwardNext = state.backwardNext;
+        forwardFrontier[0] = from;
+        backwardFrontier[0] = to;
+        int forwardSize = 1;
+        int backwardSize = 1;
+        while (forwardSize > 0 && backwardSize > 0) {
+            int meeting = WorldGraph.NO_ID;
+            int best = INFINITY;
+            if (forwardSize <= backwardSize) {
+                int size = 0;
+                for (int f = 0; f < forwardSize; f++) {
+                    int location = forwardFrontier[f];
+                    for (int i = 0; i < graph.connectionCount(location); i++) {
+                        int target = graph.connectionTarget(location, i);
+                        if (target == WorldGraph.NO_ID || state.isForwardMarked(target)) {
+                            continue;
+                        }
+                        state.markForward(target);
+                        forwardDistance[target] = forwardDistance[location] + 1;
+                        previous[target] = location;
+                        previousDirection[target] = graph.connectionDirection(location, i);
+                        forwardNext[size++] = target;
+                        if (state.isBackwardMarked(target)
+                                && forwardDistance[target] + backwardDistance[target] < best) {
+                            best = forwardDistance[target] + backwardDistance[target];
+                            meeting = target;
+                        }
+                    }
+                }
+                int[] swap = forwardFrontier;
+                forwardFrontier = forwardNext;
+                forwardNext = swap;
+                forwardSize = size;
+            } else {
+                int size = 0;
+                for (int b = 0; b < backwardSize; b++) {
+                    int location = backwardFrontier[b];
+                    for (int edge = reverse.offsets[location]; edge < reverse.offsets[location + 1]; edge++) {
+                        int source = reverse.sources[edge];
+                        if (state.isBackwardMarked(source)) {
+                            continue;
+                        }
+                        state.markBackward(source);
+                        backwardDistance[source] = backwardDistance[location] + 1;
+                        next[source] = location;
+                        nextDirection[source] = reverse.directions[edge];
+                        backwardNext[size++] = source;
+                        if (state.isForwardMarked(source)
+                                && forwardDistance[source] + backwardDistance[source] < best) {
+                            best = forwardDistance[source] + backwardDistance[source];
+                            meeting = source;
+                        }
+                    }
+                }
+                int[] swap = backwardFrontier;
+                backwardFrontier = backwardNext;
+                backwardNext = swap;
+                backwardSize = size;
+            }
+            if (meeting != WorldGraph.NO_ID) {
+                List<String> result = new ArrayList<>(pathTo(meeting, from, previous, previousDirection));
+                for (int location = meeting; location != to; location = next[location]) {
+                    result.add(graph.directionName(nextDirection[location]));
+                }
+                return List.copyOf(result);
+            }
+        }
+        return null;
+    }
+
+    // Uses the forward arrays of the search state for the distances from the start and the backward marks for the
+    // closed set.
+    private List<String> aStarSearch(int from, int to) {
+        int[][] fromLandmarks;
+        int[][] toLandmarks;
+        synchronized (this) {
+            if (distancesFromLandmarks == null && numLandmarks > 0) {
+                computeLandmarks();
+            }
+            fromLandmarks = distancesFromLandmarks == null ? new int[0][] : distancesFromLandmarks;
+            toLandmarks = distancesToLandmarks == null ? new int[0][] : distancesToLandmarks;
+        }
+        SearchState state = searchState(graph.locationCount());
+        int[] distance = state.forwardDistance;
+        int[] previous = state.previous;
+        int[] previousDirection = state.previousDirection;
+        LongHeap open = state.open;
+        open.clear();
+        state.markForward(from);
+        distance[from] = 0;
+        open.add(estimate(from, to, fromLandmarks, toLandmarks), from);
+        while (!open.isEmpty()) {
+            int location = open.removeFirst();
+            if (location == to) {
+                return pathTo(to, from, previous, previousDirection);
+            }
+            if (state.isBackwardMarked(location)) {
+                continue;
+            }
+            state.markBackward(location);
+            for (int i = 0; i < graph.connectionCount(location); i++) {
+                int target = graph.connectionTarget(location, i);
+                if (target == WorldGraph.NO_ID || state.isBackwardMarked(target)
+                        || (state.isForwardMarked(target) && distance[location] + 1 >= distance[target])) {
+                    continue;
+                }
+                state.markForward(target);
+                distance[target] = distance[location] + 1;
+                previous[target] = location;
+                previousDirection[target] = graph.connectionDirection(location, i);
+                open.add(distance[target] + estimate(target, to, fromLandmarks, toLandmarks), target);
+            }
+        }
+        return null;
+    }
+
+    private static int estimate(int location, int to, int[][] fromLandmarks, int[][] toLandmarks) {
+        int result = 0;
+        for (int l = 0; l < fromLandmarks.length; l++) {
+            // d(location, to) >= d(landmark, to) - d(landmark, location)
+            if (fromLandmarks[l][to] != INFINITY && fromLandmarks[l][location] != INFINITY) {
+                result = Math.max(result, fromLandmarks[l][to] - fromLandmarks[l][location]);
+            }
+            // d(location, to) >= d(location, landmark) - d(to, landmark)
+            if (toLandmarks[l][location] != INFINITY && toLandmarks[l][to] != INFINITY) {
+                result = Math.max(result, toLandmarks[l][location] - toLandmarks[l][to]);
+            }
+        }
+        return result;
+    }
+
+    private List<String> pathTo(int to, int from, int[] previous, int[] previousDirection) {
+        List<String> result = new ArrayList<>();
+        for (int location = to; location != from; location = previous[location]) {
+            result.add(graph.directionName(previousDirection[location]));
+        }
+        Collections.reverse(result);
+        return List.copyOf(result);
+    }
+
+    // Farthest-point selection: each new landmark is the location that is farthest away from the landmarks that
+    // have already been selected. Only live locations that can be reached from the initial location are candidates,
+    // since landmarks in other parts of the world give no bounds for the locations that players visit.
+    private void computeLandmarks() {
+        int numLocations = graph.locationCount();
+        int landmark = startOfLandmarkSearch();
+        int[] reachable = breadthFirstDistances(landmark, false);
+        int numCandidates = 0;
+        for (int i = 0; i < numLocations; i++) {
+            if (reachable[i] != INFINITY && !graph.isRemoved(i)) {
+                numCandidates++;
+                if (reachable[i] > reachable[landmark]) {
+                    landmark = i;
+                }
+            }
+        }
+        int count = Math.min(numLandmarks, numCandidates);
+        int[][] fromLandmarks = new int[count][];
+        int[][] toLandmarks = new int[count][];
+        int[] closest = filled(numLocations, INFINITY);
+        for (int l = 0; l < count; l++) {
+            fromLandmarks[l] = breadthFirstDistances(landmark, false);
+            toLandmarks[l] = breadthFirstDistances(landmark, true);
+            closest[landmark] = 0;
+            for (int i = 0; i < numLocations; i++) {
+                closest[i] = Math.min(closest[i], fromLandmarks[l][i]);
+            }
+            for (int i = 0; i < numLocations; i++) {
+                if (reachable[i] != INFINITY && !graph.isRemoved(i) && closest[i] > closest[landmark]) {
+                    landmark = i;
+                }
+            }
+        }
+        distancesFromLandmarks = fromLandmarks;
+        distancesToLandmarks = toLandmarks;
+    }
+
+    private int startOfLandmarkSearch() {
+        int index = graph.indexOf(initialLocationName);
+        if (index != WorldGraph.NO_ID && !graph.isRemoved(index)) {
+            return index;
+        }
+        for (int i = 0; i < graph.locationCount(); i++) {
+            if (!graph.isRemoved(i)) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private int[] breadthFirstDistances(int start, boolean backwards) {
+        ReverseConnections reverse = backwards ? reverseConnections() : null;
+        int[] distances = filled(graph.locationCount(), INFINITY);
+        int[] queue = new int[graph.locationCount()];
+        int head = 0;
+        int tail = 0;
+        distances[start] = 0;
+        queue[tail++] = start;
+        while (head < tail) {
+            int location = queue[head++];
+            if (reverse != null) {
+                for (int edge = reverse.offsets[location]; edge < reverse.offsets[location + 1]; edge++) {
+                    int source = reverse.sources[edge];
+                    if (distances[source] == INFINITY) {
+                        distances[source] = distances[location] + 1;
+                        queue[tail++] = source;
+                    }
+                }
+            } else {
+                for (int i = 0; i < graph.connectionCount(location); i++) {
+                    int target = graph.connectionTarget(location, i);
+                    if (target != WorldGraph.NO_ID && distances[target] == INFINITY) {
+                        distances[target] = distances[location] + 1;
+                        queue[tail++] = target;
+                    }
+                }
+            }
+        }
+        return distances;
+    }
+
+    private record ReverseConnections(int[] offsets, int[] sources, int[] directions) {
+    }
+
+    // The connections of the graph indexed by target location, for searching backwards.
+    private synchronized ReverseConnections reverseConnections() {
+        if (reverseConnections != null) {
+            return reverseConnections;
+        }
+        int numLocations = graph.locationCount();
+        int[] offsets = new int[numLocations + 1];
+        for (int location = 0; location < numLocations; location++) {
+            for (int i = 0; i < graph.connectionCount(location); i++) {
+                int target = graph.connectionTarget(location, i);
+                if (target != WorldGraph.NO_ID) {
+                    offsets[target + 1]++;
+                }
+            }
+        }
+        for (int i = 0; i < numLocations; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        int[] sources = new int[offsets[numLocations]];
+        int[] directions = new int[offsets[numLocations]];
+        int[] next = Arrays.copyOf(offsets, numLocations);
+        for (int location = 0; location < numLocations; location++) {
+            for (int i = 0; i < graph.connectionCount(location); i++) {
+                int target = graph.connectionTarget(location, i);
+                if (target != WorldGraph.NO_ID) {
+                    int slot = next[target]++;
+                    sources[slot] = location;
+                    directions[slot] = graph.connectionDirection(location, i);
+                }
+            }
+        }
+        reverseConnections = new ReverseConnections(offsets, sources, directions);
+        return reverseConnections;
+    }
+
+    private SearchState searchState(int numLocations) {
+        SearchState state = searchStates.get();
+        state.begin(numLocations);
+        return state;
+    }
+
+    // Scratch arrays of the searches of one thread, which are reused for every search. Instead of clearing the
+    // arrays, every search gets a new generation: an entry of the forward or backward arrays is only valid if its
+    // mark is the current generation. The arrays are only reallocated when the graph grows.
+    private static class SearchState {
+        private int generation = 0;
+        private int[] forwardMark = new int[0];
+        private int[] backwardMark = new int[0];
+        int[] forwardDistance;
+        int[] backwardDistance;
+        int[] previous;
+        int[] previousDirection;
+        int[] next;
+        int[] nextDirection;
+        int[] forwardFrontier;
+        int[] backwardFrontier;
+        int[] forwardNext;
+        int[] backwardNext;
+        final LongHeap open = new LongHeap();
+
+        void begin(int numLocations) {
+            if (forwardMark.length < numLocations) {
+                forwardMark = new int[numLocations];
+                backwardMark = new int[numLocations];
+                forwardDistance = new int[numLocations];
+                backwardDistance = new int[numLocations];
+                previous = new int[numLocations];
+                previousDirection = new int[numLocations];
+                next = new int[numLocations];
+                nextDirection = new int[numLocations];
+                forwardFrontier = new int[numLocations];
+                backwardFrontier = new int[numLocations];
+                forwardNext = new int[numLocations];
+                backwardNext = new int[numLocations];
+                generation = 0;
+            }
+            generation++;
+            if (generation == 0) {
+                Arrays.fill(forwardMark, 0);
+                Arrays.fill(backwardMark, 0);
+                generation = 1;
+            }
+        }
+
+        boolean isForwardMarked(int location) {
+            return forwardMark[location] == generation;
+        }
+
+        void markForward(int location) {
+            forwardMark[location] = generation;
+        }
+
+        boolean isBackwardMarked(int location) {
+            return backwardMark[location] == generation;
+        }
+
+        void markBackward(int location) {
+            backwardMark[location] = generation;
+        }
+    }
+
+    private static int[] filled(int size, int value) {
+        int[] result = new int[size];
+        Arrays.fill(result, value);
+        return result;
+    }
+
+    // Binary min-heap of (priority, location) pairs packed into longs, to avoid boxing in A*.
+    private static class LongHeap {
+        private long[] entries = new long[16];
+        private int size = 0;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        void add(int priority, int location) {
+            if (size == entries.length) {
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            long entry = ((long) priority << 32) | location;
+            int i = size++;
+            while (i > 0 && entries[(i - 1) / 2] > entry) {
+                entries[i] = entries[(i - 1) / 2];
+                i = (i - 1) / 2;
+            }
+            entries[i] = entry;
+        }
+
+        int removeFirst() {
+            long first = entries[0];
+            long last = entries[--size];
+            int i = 0;
+            while (2 * i + 1 < size) {
+                int child = 2 * i + 1;
+                if (child + 1 < size && entries[child + 1] < entries[child]) {
+                    child++;
+                }
+                if (entries[child] >= last) {
+                    break;
+                }
+                entries[i] = entries[child];
+                i = child;
+            }
+            entries[i] = last;
+            return (int) first;
+        }
+    }
+}
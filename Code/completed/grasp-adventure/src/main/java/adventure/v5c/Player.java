@@ -3,14 +3,19 @@ package adventure.v5c;
 import adventure.v5c.actions.*;
 import adventure.v5c.strategies.SelectFirstActionStrategy;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 public class Player {
     private final String name;
     private Location location;
     private SelectActionStrategy strategy = new SelectFirstActionStrategy();
     private boolean isDebugModeActive = false;
+    private RandomGenerator random = new SplittableRandom();
+    private ActionCatalog actionCatalog = null;
+    private TurnObserver turnObserver = null;
 
     public Player(String name, Location location) {
         this.name = name;
@@ -38,6 +43,31 @@ public class Player {
         this.strategy = strategy;
     }
 
+    public RandomGenerator getRandom() {
+        return random;
+    }
+
+    public void setRandom(RandomGenerator random) {
+        this.random = random;
+    }
+
+    public ActionCatalog getActionCatalog() {
+        return actionCatalog;
+    }
+
+    // With an action catalog the possible actions are shared, immutable lists instead of newly created ones.
+    public void setActionCatalog(ActionCatalog actionCatalog) {
+        this.actionCatalog = actionCatalog;
+    }
+
+    public TurnObserver getTurnObserver() {
+        return turnObserver;
+    }
+
+    public void setTurnObserver(TurnObserver turnObserver) {
+        this.turnObserver = turnObserver;
+    }
+
     public boolean isInteractive() {
         return strategy.isInteractive();
     }
@@ -55,17 +85,27 @@ public class Player {
         List<Action> possibleActions = getPossibleActions();
         Action action = selectAction(possibleActions);
         performIfPossible(action);
+        if (turnObserver != null) {
+            turnObserver.turnTaken(this, action);
+        }
     }
 
     public List<Action> getPossibleActions() {
-        List<Action> actions = getLocation().getConnectedDirections().stream().map(MoveAction::new).collect(
-                Collectors.toList());
-        actions.add(new InvestigateAction());
-        actions.add(new SkipTurnAction());
+        if (actionCatalog != null) {
+            return actionCatalog.getPossibleActions(getLocation(), isInteractive(), isDebugModeActive());
+        }
+        List<String> directions = getLocation().getConnectedDirections();
+        int[] directionIds = getLocation().getConnectedDirectionIds();
+        List<Action> actions = new ArrayList<>(directions.size() + 4);
+        for (int i = 0; i < directions.size(); i++) {
+            actions.add(new MoveAction(directions.get(i), directionIds[i]));
+        }
+        actions.add(InvestigateAction.INSTANCE);
+        actions.add(SkipTurnAction.INSTANCE);
         if (isInteractive()) {
-            actions.add(new QuitAction());
+            actions.add(QuitAction.INSTANCE);
             if (isDebugModeActive()) {
-                actions.add(new ErrorAction());
+                actions.add(ErrorAction.INSTANCE);
             }
         }
         return actions;
@@ -0,0 +1,11 @@
+package adventure.v5c;
+
+public record ReloadResult(
+        int addedLocations, int removedLocations, int changedLocations, int changedConnections,
+        int relocatedPlayers) {
+    public static final ReloadResult NO_CHANGES = new ReloadResult(0, 0, 0, 0, 0);
+
+    public boolean hasChanges() {
+        return addedLocations + removedLocations + changedLocations + changedConnections > 0;
+    }
+}
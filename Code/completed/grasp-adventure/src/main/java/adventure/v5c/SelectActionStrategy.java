@@ -5,4 +5,9 @@ import java.util.List;
 public interface SelectActionStrategy {
     Action selectAction(Player player, List<Action> actions);
     boolean isInteractive();
+
+    // Whether random choices are drawn from the random generator of the player rather than from one of the strategy.
+    default boolean usesPlayerRandom() {
+        return true;
+    }
 }
@@ -0,0 +1,134 @@
+package adventure.v5c;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+// Map from directions to locations for locations that are not part of a WorldGraph. Most locations have only a few
+// exits, so the entries are kept in two small arrays that are searched linearly; this needs a fraction of the memory
+// of a HashMap and is at least as fast for a handful of keys. Entries keep their insertion order.
+final class SmallConnectionMap extends AbstractMap<String, Location> {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private String[] directions = new String[INITIAL_CAPACITY];
+    private Location[] targets = new Location[INITIAL_CAPACITY];
+    private int size = 0;
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private int indexOf(Object direction) {
+        for (int i = 0; i < size; i++) {
+            if (directions[i].equals(direction)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Location get(Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : targets[index];
+    }
+
+    @Override
+    public Location put(String key, Location value) {
+        if (key == null) {
+            throw new IllegalArgumentException("Direction must not be null");
+        }
+        int index = indexOf(key);
+        if (index >= 0) {
+            Location previous = targets[index];
+            targets[index] = value;
+            return previous;
+        }
+        if (size == directions.length) {
+            directions = Arrays.copyOf(directions, size * 2);
+            targets = Arrays.copyOf(targets, size * 2);
+        }
+        directions[size] = key;
+        targets[size] = value;
+        size++;
+        return null;
+    }
+
+    @Override
+    public Location remove(Object key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        Location previous = targets[index];
+        removeAt(index);
+        return previous;
+    }
+
+    private void removeAt(int index) {
+        int numMoved = size - index - 1;
+        System.arraycopy(directions, index + 1, directions, index, numMoved);
+        System.arraycopy(targets, index + 1, targets, index, numMoved);
+        size--;
+        directions[size] = null;
+        targets[size] = null;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(directions, 0, size, null);
+        Arrays.fill(targets, 0, size, null);
+        size = 0;
+    }
+
+    @Override
+    public Set<Entry<String, Location>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Location>> iterator() {
+                return new Iterator<>() {
+                    private int next = 0;
+                    private int last = -1;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < size;
+                    }
+
+                    @Override
+                    public Entry<String, Location> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        last = next++;
+                        return new SimpleImmutableEntry<>(directions[last], targets[last]);
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (last < 0) {
+                            throw new IllegalStateException();
+                        }
+                        removeAt(last);
+                        next = last;
+                        last = -1;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+}
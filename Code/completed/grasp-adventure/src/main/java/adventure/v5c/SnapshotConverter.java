@@ -0,0 +1,16 @@
+package adventure.v5c;
+
+import java.nio.file.Path;
+
+public class SnapshotConverter {
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: SnapshotConverter <locations.json> <snapshot file>");
+            System.exit(1);
+        }
+        Path snapshotPath = Path.of(args[1]);
+        WorldFactory.convertJsonFileToSnapshot(args[0], snapshotPath);
+        World world = WorldFactory.fromSnapshot(snapshotPath);
+        System.out.printf("Wrote %d locations to %s%n", world.graph().locationCount(), snapshotPath);
+    }
+}
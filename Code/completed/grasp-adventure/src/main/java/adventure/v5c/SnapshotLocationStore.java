@@ -0,0 +1,98 @@
+package adventure.v5c;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// Reads names and descriptions directly from a mapped world snapshot. The snapshot stores every distinct string only
+// once; descriptions are decoded once per string, so that locations with equal descriptions share the String.
+class SnapshotLocationStore implements LocationStore {
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int namesAt;
+    private final int descriptionsAt;
+    private final int nameOrderAt;
+    private final int stringOffsetsAt;
+    private final int stringBytesAt;
+    private final String[] descriptionCache;
+
+    SnapshotLocationStore(
+            ByteBuffer buffer, int size, int namesAt, int descriptionsAt, int nameOrderAt, int numCachedStrings,
+            int stringOffsetsAt, int stringBytesAt) {
+        this.buffer = buffer;
+        this.size = size;
+        this.namesAt = namesAt;
+        this.descriptionsAt = descriptionsAt;
+        this.nameOrderAt = nameOrderAt;
+        this.stringOffsetsAt = stringOffsetsAt;
+        this.stringBytesAt = stringBytesAt;
+        this.descriptionCache = new String[numCachedStrings];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String name(int index) {
+        return string(intAt(namesAt, index));
+    }
+
+    @Override
+    public String description(int index) {
+        int id = intAt(descriptionsAt, index);
+        if (descriptionCache.length == 0) {
+            return string(id);
+        }
+        // Concurrent calls may decode a string twice, which is harmless.
+        String result = descriptionCache[id];
+        if (result == null) {
+            result = string(id);
+            descriptionCache[id] = result;
+        }
+        return result;
+    }
+
+    @Override
+    public int indexOf(String name) {
+        byte[] key = name.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int index = intAt(nameOrderAt, middle);
+            int comparison = compareToString(intAt(namesAt, index), key);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return index;
+            }
+        }
+        return WorldGraph.NO_ID;
+    }
+
+    String string(int id) {
+        int start = intAt(stringOffsetsAt, id);
+        byte[] bytes = new byte[intAt(stringOffsetsAt, id + 1) - start];
+        buffer.get(stringBytesAt + start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int compareToString(int id, byte[] key) {
+        int start = stringBytesAt + intAt(stringOffsetsAt, id);
+        int length = stringBytesAt + intAt(stringOffsetsAt, id + 1) - start;
+        for (int i = 0; i < Math.min(length, key.length); i++) {
+            int comparison = Byte.compareUnsigned(buffer.get(start + i), key[i]);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return Integer.compare(length, key.length);
+    }
+
+    private int intAt(int tableAt, int index) {
+        return buffer.getInt(tableAt + index * Integer.BYTES);
+    }
+}
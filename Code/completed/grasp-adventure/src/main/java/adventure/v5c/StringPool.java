@@ -0,0 +1,22 @@
+package adventure.v5c;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Canonical instances of strings, so that equal strings that occur many times in a world, such as the descriptions
+// of generated locations, are only stored once.
+final class StringPool {
+    private final Map<String, String> strings = new HashMap<>();
+
+    String intern(String string) {
+        if (string == null) {
+            return null;
+        }
+        String existing = strings.putIfAbsent(string, string);
+        return existing == null ? string : existing;
+    }
+
+    int size() {
+        return strings.size();
+    }
+}
@@ -0,0 +1,103 @@
+package adventure.v5c;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+// Advances many players per tick on a fork-join pool. The world is only read during a tick and every player only
+// changes its own state, so the players can take their turns in any order. Each player gets its own random generator
+// that is split off the seed in player order; therefore the result of a simulation only depends on the seed and not
+// on the number of threads. This only holds for strategies that draw from the generator of the player, so strategies
+// with their own generator, which might even be shared between players, are rejected.
+public class TurnEngine implements AutoCloseable {
+    private static final int PLAYERS_PER_TASK = 256;
+
+    private final List<Player> players;
+    private final ForkJoinPool pool;
+    private int tick = 0;
+
+    public TurnEngine(List<Player> players, long seed, int parallelism) {
+        this(players, new SplittableRandom(seed), parallelism);
+    }
+
+    // E.g., TurnEngine(players, "L64X128MixRandom", seed, parallelism)
+    public TurnEngine(List<Player> players, String randomAlgorithm, long seed, int parallelism) {
+        this(players, splittableGenerator(randomAlgorithm, seed), parallelism);
+    }
+
+    public TurnEngine(List<Player> players, RandomGenerator.SplittableGenerator random, int parallelism) {
+        for (Player player : players) {
+            if (player.isInteractive()) {
+                throw new IllegalArgumentException("Interactive players cannot be simulated: " + player.getName());
+            }
+            if (!player.getStrategy().usesPlayerRandom()) {
+                throw new IllegalArgumentException(
+                        "Strategies with their own random generator cannot be simulated: " + player.getName());
+            }
+        }
+        this.players = List.copyOf(players);
+        this.pool = new ForkJoinPool(parallelism);
+        for (Player player : this.players) {
+            player.setRandom(random.split());
+        }
+    }
+
+    private static RandomGenerator.SplittableGenerator splittableGenerator(String algorithm, long seed) {
+        if (RandomGeneratorFactory.of(algorithm).create(seed) instanceof RandomGenerator.SplittableGenerator result) {
+            return result;
+        }
+        throw new IllegalArgumentException("Random generator algorithm is not splittable: " + algorithm);
+    }
+
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    public int getTick() {
+        return tick;
+    }
+
+    public void runTick() {
+        pool.invoke(new TakeTurns(0, players.size()));
+        tick++;
+    }
+
+    public void runTicks(int numTicks) {
+        for (int i = 0; i < numTicks; i++) {
+            runTick();
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    // Tasks are never serialized; the field only declares a stable version as ForkJoinTask is Serializable.
+    private class TakeTurns extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        TakeTurns(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PLAYERS_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    players.get(i).takeTurn();
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new TakeTurns(from, middle), new TakeTurns(middle, to));
+            }
+        }
+    }
+}
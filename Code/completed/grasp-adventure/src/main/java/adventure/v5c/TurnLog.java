@@ -0,0 +1,53 @@
+package adventure.v5c;
+
+import adventure.v5c.actions.*;
+
+// Format of turn logs. A log starts with the magic number and the version as big-endian ints, followed by one entry
+// per turn:
+//
+//   player id, action type, direction id + 1, location index + 1
+//
+// each encoded as an unsigned varint (7 bits per byte, least significant group first, high bit set on all but the
+// last byte). Direction id and location index are shifted by one so that NO_ID is encoded as 0. The location is the
+// one the player is in after the turn; the direction id is only recorded for moves.
+public class TurnLog {
+    static final int MAGIC = 0x4144544c;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 2 * Integer.BYTES;
+    static final int MAX_ENTRY_BYTES = 4 * 5;
+
+    public enum ActionType {
+        MOVE, INVESTIGATE, SKIP_TURN, HEAL, QUIT, ERROR, OTHER;
+
+        private static final ActionType[] VALUES = values();
+
+        public static ActionType of(Action action) {
+            if (action instanceof MoveAction) {
+                return MOVE;
+            } else if (action instanceof InvestigateAction) {
+                return INVESTIGATE;
+            } else if (action instanceof SkipTurnAction) {
+                return SKIP_TURN;
+            } else if (action instanceof HealAction) {
+                return HEAL;
+            } else if (action instanceof QuitAction) {
+                return QUIT;
+            } else if (action instanceof ErrorAction) {
+                return ERROR;
+            }
+            return OTHER;
+        }
+
+        public static ActionType fromCode(int code) {
+            if (code < 0 || code >= VALUES.length) {
+                throw new IllegalArgumentException("Invalid action type: " + code);
+            }
+            return VALUES[code];
+        }
+    }
+
+    // Receives the entries of a log; the action type is passed as its ordinal so that reading does not allocate.
+    public interface EntryHandler {
+        void entry(int playerId, int actionType, int directionId, int locationIndex);
+    }
+}
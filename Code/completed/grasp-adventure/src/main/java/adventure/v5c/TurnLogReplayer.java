@@ -0,0 +1,120 @@
+package adventure.v5c;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+// Reads turn logs written by TurnLogWriter. The file is read in large chunks into a heap buffer and decoded without
+// allocating per entry. Location indices refer to the graph the log was written for, so the world must be loaded
+// from the same file or from a snapshot of a world without removed locations.
+public class TurnLogReplayer {
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    public static long read(Path path, TurnLog.EntryHandler handler) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            checkHeader(channel, path);
+            channel.position(TurnLog.HEADER_BYTES);
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            byte[] bytes = buffer.array();
+            long numEntries = 0;
+            boolean isAtEnd = false;
+            while (!isAtEnd) {
+                isAtEnd = channel.read(buffer) < 0;
+                int limit = buffer.position();
+                int position = 0;
+                // Entries that might be cut off at the end of the buffer are decoded after the next read.
+                int safeLimit = isAtEnd ? limit : limit - TurnLog.MAX_ENTRY_BYTES;
+                int[] entry = new int[4];
+                while (position < safeLimit) {
+                    for (int field = 0; field < 4; field++) {
+                        int value = 0;
+                        int shift = 0;
+                        byte b;
+                        do {
+                            if (position >= limit) {
+                                throw new IllegalArgumentException("Truncated turn log: " + path);
+                            }
+                            b = bytes[position++];
+                            value |= (b & 0x7f) << shift;
+                            shift += 7;
+                        } while (b < 0);
+                        entry[field] = value;
+                    }
+                    handler.entry(entry[0], entry[1], entry[2] - 1, entry[3] - 1);
+                    numEntries++;
+                }
+                buffer.position(position);
+                buffer.limit(limit);
+                buffer.compact();
+            }
+            return numEntries;
+        }
+    }
+
+    // The location index of every player after its last recorded turn, or NO_ID for players without turns.
+    public static int[] replayLocations(Path path, int numPlayers) throws IOException {
+        int[] locations = new int[numPlayers];
+        Arrays.fill(locations, WorldGraph.NO_ID);
+        read(path, (playerId, actionType, directionId, locationIndex) -> {
+            checkPlayerId(playerId, numPlayers);
+            locations[playerId] = locationIndex;
+        });
+        return locations;
+    }
+
+    // Moves the players to the locations that the log records for them. Recorded players, locations and moves are
+    // checked against the players and the world; an IllegalStateException is thrown if the log does not match them.
+    public static long replay(Path path, World world, List<Player> players) throws IOException {
+        WorldGraph graph = world.graph();
+        int[] locations = new int[players.size()];
+        for (int i = 0; i < locations.length; i++) {
+            locations[i] = WorldGraph.indexOf(players.get(i).getLocation());
+        }
+        int move = TurnLog.ActionType.MOVE.ordinal();
+        long numEntries = read(path, (playerId, actionType, directionId, locationIndex) -> {
+            checkPlayerId(playerId, locations.length);
+            if (locationIndex < WorldGraph.NO_ID || locationIndex >= graph.locationCount()) {
+                throw new IllegalStateException(String.format(
+                        "Player %d is at location %d, but the world has only %d locations",
+                        playerId, locationIndex, graph.locationCount()));
+            }
+            int previous = locations[playerId];
+            if (actionType == move && previous != WorldGraph.NO_ID && directionId != WorldGraph.NO_ID
+                    && graph.target(previous, directionId) != locationIndex) {
+                throw new IllegalStateException(String.format(
+                        "Player %d cannot move from location %d in direction %d to location %d",
+                        playerId, previous, directionId, locationIndex));
+            }
+            locations[playerId] = locationIndex;
+        });
+        for (int i = 0; i < locations.length; i++) {
+            if (locations[i] != WorldGraph.NO_ID) {
+                players.get(i).moveToLocation(graph.location(locations[i]));
+            }
+        }
+        return numEntries;
+    }
+
+    // Player ids that do not fit the players indicate a corrupt log or a log of a different game.
+    private static void checkPlayerId(int playerId, int numPlayers) {
+        if (playerId < 0 || playerId >= numPlayers) {
+            throw new IllegalStateException(String.format(
+                    "Turn log records player %d, but there are only %d players", playerId, numPlayers));
+        }
+    }
+
+    static void checkHeader(FileChannel channel, Path path) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(TurnLog.HEADER_BYTES);
+        channel.read(header, 0);
+        if (header.position() < TurnLog.HEADER_BYTES || header.getInt(0) != TurnLog.MAGIC) {
+            throw new IllegalArgumentException("Not a turn log: " + path);
+        }
+        if (header.getInt(4) != TurnLog.VERSION) {
+            throw new IllegalArgumentException("Unsupported turn log version " + header.getInt(4) + ": " + path);
+        }
+    }
+}
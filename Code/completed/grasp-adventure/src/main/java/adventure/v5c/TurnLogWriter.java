@@ -0,0 +1,103 @@
+package adventure.v5c;
+
+import adventure.v5c.actions.MoveAction;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+// Appends the outcome of every turn of the attached players to a turn log (see TurnLog for the format). Entries are
+// encoded into a direct buffer that is written to the file channel when it is full, on flush() and on close().
+// Players may take their turns on several threads; entries of different players may then be interleaved in any
+// order, but the entries of each player stay in order.
+public class TurnLogWriter implements AutoCloseable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final WorldGraph graph;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private long numEntries = 0;
+
+    public TurnLogWriter(World world, Path path) throws IOException {
+        this.graph = world.graph();
+        this.channel = FileChannel.open(
+                path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.READ);
+        if (channel.size() == 0) {
+            buffer.putInt(TurnLog.MAGIC).putInt(TurnLog.VERSION);
+        } else {
+            TurnLogReplayer.checkHeader(channel, path);
+            channel.position(channel.size());
+        }
+    }
+
+    // Player ids are the indices of the players in the list.
+    public void attach(List<Player> players) {
+        for (int i = 0; i < players.size(); i++) {
+            int playerId = i;
+            players.get(i).setTurnObserver((player, action) -> record(playerId, player, action));
+        }
+    }
+
+    public void record(int playerId, Player player, Action action) {
+        TurnLog.ActionType type = TurnLog.ActionType.of(action);
+        int directionId = WorldGraph.NO_ID;
+        if (action instanceof MoveAction move) {
+            directionId = move.getDirectionId() != WorldGraph.NO_ID
+                    ? move.getDirectionId() : graph.directionId(move.getDirection());
+        }
+        append(playerId, type.ordinal(), directionId, WorldGraph.indexOf(player.getLocation()));
+    }
+
+    public synchronized void append(int playerId, int actionType, int directionId, int locationIndex) {
+        if (buffer.remaining() < TurnLog.MAX_ENTRY_BYTES) {
+            writeBuffer();
+        }
+        putVarint(playerId);
+        putVarint(actionType);
+        putVarint(directionId + 1);
+        putVarint(locationIndex + 1);
+        numEntries++;
+    }
+
+    public synchronized long getNumEntries() {
+        return numEntries;
+    }
+
+    public synchronized void flush() throws IOException {
+        writeBuffer();
+        channel.force(false);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            writeBuffer();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void putVarint(int value) {
+        while ((value & ~0x7f) != 0) {
+            buffer.put((byte) ((value & 0x7f) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    private void writeBuffer() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing turn log", e);
+        } finally {
+            buffer.clear();
+        }
+    }
+}
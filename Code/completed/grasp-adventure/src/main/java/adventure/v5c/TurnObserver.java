@@ -0,0 +1,6 @@
+package adventure.v5c;
+
+// Notified after a player has performed the action it selected for its turn.
+public interface TurnObserver {
+    void turnTaken(Player player, Action action);
+}
@@ -3,7 +3,7 @@ package adventure.v5c;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-public record World(Map<String, Location> locations, String initialLocationName) {
+public record World(Map<String, Location> locations, String initialLocationName, WorldGraph graph) {
     public Location getLocationByName(String name) {
         return locations.get(name);
     }
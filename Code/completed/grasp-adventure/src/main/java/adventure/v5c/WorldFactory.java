@@ -1,39 +1,86 @@
 package adventure.v5c;
 
-import adventure.data.JsonLoader;
+import adventure.data.JsonLocationReader;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 public class WorldFactory {
     public static World fromJsonFile(String fileName) {
-        List<Map<String, Object>> locationData = JsonLoader.loadData(fileName);
-        return fromLocationData(locationData);
+        WorldGraph.Builder builder = new WorldGraph.Builder();
+        JsonLocationReader.readFile(fileName, builder);
+        return fromGraph(builder.build());
+    }
+
+    public static World fromJsonResource(String fileName) {
+        WorldGraph.Builder builder = new WorldGraph.Builder();
+        JsonLocationReader.readResource(fileName, builder);
+        return fromGraph(builder.build());
+    }
+
+    public static World fromSnapshot(Path path) {
+        try {
+            return fromGraph(WorldSnapshot.open(path));
+        } catch (IOException e) {
+            throw new RuntimeException("Error loading world snapshot: " + path, e);
+        }
+    }
+
+    // Loads a world whose locations are created from the snapshot on demand and of which at most maxResidentLocations
+    // are kept in memory. JSON files can be converted with convertJsonFileToSnapshot().
+    public static World fromSnapshot(Path path, int maxResidentLocations) {
+        try {
+            return fromGraph(WorldSnapshot.open(path, maxResidentLocations));
+        } catch (IOException e) {
+            throw new RuntimeException("Error loading world snapshot: " + path, e);
+        }
+    }
+
+    public static void convertJsonFileToSnapshot(String fileName, Path snapshotPath) {
+        World world = fromJsonFile(fileName);
+        try {
+            WorldSnapshot.write(world.graph(), snapshotPath);
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing world snapshot: " + snapshotPath, e);
+        }
+    }
+
+    public static World fromGraph(WorldGraph graph) {
+        if (graph.locationCount() == 0) {
+            throw new IllegalArgumentException("World without locations");
+        }
+        return new World(graph.locationsByName(), graph.location(0).name(), graph);
     }
 
     public static World fromLocationData(
             List<Map<String, Object>> locationData) {
-        Map<String, Location> locations = locationData.stream().map(Location::fromData).collect(
-                Collectors.toMap(Location::name, location -> location));
-        String initialLocationName = (String) locationData.get(0).get("name");
+        if (locationData.isEmpty()) {
+            throw new IllegalArgumentException("World without locations");
+        }
+        Map<String, Object> initialLocationData = locationData.get(0);
+        String initialLocationName =
+                initialLocationData != null && initialLocationData.get("name") instanceof String name ? name : null;
+        // Unreachable locations are only warnings; the world is built with them.
+        WorldValidator.check(locationData, initialLocationName);
+        WorldGraph.Builder builder = new WorldGraph.Builder();
+        for (Map<String, Object> data : locationData) {
+            builder.addLocation((String) data.get("name"), (String) data.getOrDefault("description", ""));
+        }
         for (Map<String, Object> fromLocationData : locationData) {
             String fromName = (String) fromLocationData.get("name");
             Object targets = fromLocationData.get("connections");
-            if (!(targets instanceof Map))
-                throw new IllegalArgumentException(
-                        String.format("Invalid type for connections: %s", targets.getClass()));
             //noinspection unchecked
             var targetsMap = (Map<String, Object>) targets;
 
-            Location fromLocation = locations.get(fromName);
             for (Map.Entry<String, Object> toData : targetsMap.entrySet()) {
                 String direction = toData.getKey();
                 String toName = (String)toData.getValue();
-                Location toLocation = locations.get(toName);
-                fromLocation.setConnectedLocation(direction, toLocation);
+                builder.addConnection(fromName, direction, toName);
             }
         }
-        return new World(locations, initialLocationName);
+        WorldGraph graph = builder.build();
+        return new World(graph.locationsByName(), initialLocationName, graph);
     }
 }
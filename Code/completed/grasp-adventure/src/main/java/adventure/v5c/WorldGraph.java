@@ -0,0 +1,611 @@
+package adventure.v5c;
+
+import adventure.data.LocationDataHandler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Compiled representation of the connections of a world: direction names are interned into small integer ids and
+// the connections of all locations are stored in flat arrays (compressed sparse rows). The connections of the
+// location with index i are the entries offsets[i] until offsets[i + 1] of edgeDirections and edgeTargets.
+//
+// Players may read the graph in parallel while it is changed, e.g. through the CompiledConnections of a location.
+// Changes are serialized and never modify arrays that readers can see: the connection arrays are replaced as a whole
+// in a single Topology and the direction table is copied when a direction is added. Each method therefore reads one
+// consistent version of the graph. A caller that combines several calls, e.g. iterates over the connections of a
+// location, may still see connections that were added or removed in between; data derived from the graph is keyed
+// on modificationCount(), like in ActionCatalog and CompiledConnections. Names and descriptions of changes applied
+// with apply() may become visible before the connections, so WorldReloader applies them between turns.
+public class WorldGraph {
+    public static final int NO_ID = -1;
+
+    // Immutable once published; every change of the connections or locations publishes a new one.
+    private record Topology(
+            boolean[] removed, int numRemoved, int[] offsets, int[] edgeDirections, int[] edgeTargets) {
+    }
+
+    private record Directions(Map<String, Integer> ids, List<String> names) {
+    }
+
+    private volatile Directions directions;
+    private volatile LocationStore store;
+    // Location objects are only created when they are first requested. They are either kept in the locations array
+    // or, for paged graphs, in a size-bounded cache; locations is null in that case. The array is replaced before a
+    // topology with more locations is published, so it is never shorter than the topology a reader sees.
+    private volatile Location[] locations;
+    private final LocationCache cache;
+    private volatile Topology topology;
+    private volatile int modificationCount = 0;
+
+    WorldGraph(
+            List<String> directionNames, LocationStore store, int[] offsets, int[] edgeDirections,
+            int[] edgeTargets) {
+        this(directionNames, store, offsets, edgeDirections, edgeTargets, null);
+    }
+
+    WorldGraph(
+            List<String> directionNames, LocationStore store, int[] offsets, int[] edgeDirections,
+            int[] edgeTargets, LocationCache cache) {
+        Map<String, Integer> directionIds = HashMap.newHashMap(directionNames.size());
+        for (int i = 0; i < directionNames.size(); i++) {
+            directionIds.put(directionNames.get(i), i);
+        }
+        this.directions = new Directions(directionIds, List.copyOf(directionNames));
+        this.store = store;
+        this.cache = cache;
+        this.locations = cache == null ? new Location[store.size()] : null;
+        this.topology = new Topology(new boolean[store.size()], 0, offsets, edgeDirections, edgeTargets);
+    }
+
+    // Includes removed locations, whose indices are not reused.
+    public int locationCount() {
+        return topology.removed().length;
+    }
+
+    public int liveLocationCount() {
+        Topology current = topology;
+        return current.removed().length - current.numRemoved();
+    }
+
+    public boolean isRemoved(int index) {
+        return topology.removed()[index];
+    }
+
+    public Location location(int index) {
+        if (cache != null) {
+            return cache.get(index, this::createLocation);
+        }
+        Location location = locations[index];
+        if (location == null) {
+            location = materialize(index);
+        }
+        return location;
+    }
+
+    private synchronized Location materialize(int index) {
+        Location location = locations[index];
+        if (location == null) {
+            location = createLocation(index);
+            locations[index] = location;
+        }
+        return location;
+    }
+
+    private Location createLocation(int index) {
+        return new Location(store.name(index), store.description(index), new CompiledConnections(this, index));
+    }
+
+    public boolean isPaged() {
+        return cache != null;
+    }
+
+    // Statistics of the location cache of a paged graph.
+    public Optional<CacheStatistics> cacheStatistics() {
+        return cache == null ? Optional.empty() : Optional.of(cache.statistics());
+    }
+
+    public void resetCacheStatistics() {
+        if (cache != null) {
+            cache.resetStatistics();
+        }
+    }
+
+    // Index of a location of this graph; since a location may be created more than once in a paged graph, locations
+    // are identified by graph and index rather than by identity.
+    int checkedIndexOf(Location location) {
+        if (location != null && location.connectedLocations() instanceof CompiledConnections compiled
+                && compiled.graph() == this) {
+            return compiled.locationIndex();
+        }
+        throw new IllegalArgumentException("Location does not belong to this world: " + location);
+    }
+
+    public int indexOf(String name) {
+        return store.indexOf(name);
+    }
+
+    public Map<String, Location> locationsByName() {
+        return new LocationsView(this);
+    }
+
+    public int directionCount() {
+        return directions.names().size();
+    }
+
+    public int directionId(Object directionName) {
+        Integer id = directions.ids().get(directionName);
+        return id == null ? NO_ID : id;
+    }
+
+    public String directionName(int directionId) {
+        return directions.names().get(directionId);
+    }
+
+    // Incremented whenever connections change, so that data derived from the graph can be invalidated.
+    public int modificationCount() {
+        return modificationCount;
+    }
+
+    public int connectionCount(int locationIndex) {
+        int[] offsets = topology.offsets();
+        return offsets[locationIndex + 1] - offsets[locationIndex];
+    }
+
+    public int connectionDirection(int locationIndex, int connectionIndex) {
+        Topology current = topology;
+        return current.edgeDirections()[current.offsets()[locationIndex] + connectionIndex];
+    }
+
+    public int connectionTarget(int locationIndex, int connectionIndex) {
+        Topology current = topology;
+        return current.edgeTargets()[current.offsets()[locationIndex] + connectionIndex];
+    }
+
+    public int target(int locationIndex, int directionId) {
+        Topology current = topology;
+        int edge = findEdge(current, locationIndex, directionId);
+        return edge < 0 ? NO_ID : current.edgeTargets()[edge];
+    }
+
+    private static int findEdge(Topology topology, int locationIndex, int directionId) {
+        int[] offsets = topology.offsets();
+        int[] edgeDirections = topology.edgeDirections();
+        for (int edge = offsets[locationIndex]; edge < offsets[locationIndex + 1]; edge++) {
+            if (edgeDirections[edge] == directionId) {
+                return edge;
+            }
+        }
+        return NO_ID;
+    }
+
+    synchronized int connect(int locationIndex, String directionName, int targetIndex) {
+        int directionId = internDirection(directionName);
+        Topology current = topology;
+        int edge = findEdge(current, locationIndex, directionId);
+        if (edge >= 0) {
+            int previousTarget = current.edgeTargets()[edge];
+            int[] edgeTargets = current.edgeTargets().clone();
+            edgeTargets[edge] = targetIndex;
+            publish(current.offsets(), current.edgeDirections(), edgeTargets);
+            return previousTarget;
+        }
+        int insertAt = current.offsets()[locationIndex + 1];
+        int[] offsets = current.offsets().clone();
+        for (int i = locationIndex + 1; i < offsets.length; i++) {
+            offsets[i]++;
+        }
+        publish(offsets, insert(current.edgeDirections(), insertAt, directionId),
+                insert(current.edgeTargets(), insertAt, targetIndex));
+        return NO_ID;
+    }
+
+    synchronized int disconnect(int locationIndex, String directionName) {
+        Topology current = topology;
+        int edge = findEdge(current, locationIndex, directionId(directionName));
+        if (edge < 0) {
+            return NO_ID;
+        }
+        int previousTarget = current.edgeTargets()[edge];
+        int[] offsets = current.offsets().clone();
+        for (int i = locationIndex + 1; i < offsets.length; i++) {
+            offsets[i]--;
+        }
+        publish(offsets, delete(current.edgeDirections(), edge), delete(current.edgeTargets(), edge));
+        return previousTarget;
+    }
+
+    private void publish(int[] offsets, int[] edgeDirections, int[] edgeTargets) {
+        Topology current = topology;
+        topology = new Topology(current.removed(), current.numRemoved(), offsets, edgeDirections, edgeTargets);
+        modificationCount++;
+    }
+
+    synchronized int addLocation(String name, String description) {
+        int index = mutableStore().add(name, description);
+        if (locations != null) {
+            locations = Arrays.copyOf(locations, index + 1);
+        }
+        Topology current = topology;
+        int[] offsets = Arrays.copyOf(current.offsets(), index + 2);
+        offsets[index + 1] = offsets[index];
+        topology = new Topology(Arrays.copyOf(current.removed(), index + 1), current.numRemoved(), offsets,
+                current.edgeDirections(), current.edgeTargets());
+        modificationCount++;
+        return index;
+    }
+
+    // Location records are immutable, so the location gets a new Location object with the same connections.
+    synchronized void setDescription(int index, String description) {
+        mutableStore().setDescription(index, description);
+        if (cache != null) {
+            cache.remove(index);
+        } else if (locations[index] != null) {
+            Location previous = locations[index];
+            locations[index] = new Location(previous.name(), description, previous.connectedLocations());
+        }
+        modificationCount++;
+    }
+
+    // Removes the location and its connections; connections from other locations to it can no longer be followed.
+    // The index of a removed location is not reused.
+    synchronized void removeLocation(int index) {
+        if (!isRemoved(index)) {
+            apply(changes().removeLocation(index));
+        }
+    }
+
+    String name(int index) {
+        return store.name(index);
+    }
+
+    String description(int index) {
+        return store.description(index);
+    }
+
+    // Collects changes to several locations, which can then be applied with a single rebuild of the connection
+    // arrays. Locations that are added get the indices that follow the current locations.
+    synchronized Changes changes() {
+        return new Changes(locationCount());
+    }
+
+    // Applies all changes at once: the connection arrays are rebuilt in a single pass over the locations and edges,
+    // instead of once per changed connection or location.
+    synchronized void apply(Changes changes) {
+        if (changes.firstNewIndex != locationCount()) {
+            throw new IllegalStateException("The graph was modified after the changes were collected");
+        }
+        int oldCount = locationCount();
+        int numLocations = oldCount + changes.names.size();
+        if (!changes.names.isEmpty() || !changes.descriptions.isEmpty() || !changes.removals.isEmpty()) {
+            ArrayLocationStore mutable = mutableStore();
+            for (int i = 0; i < changes.names.size(); i++) {
+                mutable.add(changes.names.get(i), changes.newDescriptions.get(i));
+            }
+            for (Map.Entry<Integer, String> entry : changes.descriptions.entrySet()) {
+                mutable.setDescription(entry.getKey(), entry.getValue());
+            }
+            for (int index : changes.removals) {
+                mutable.remove(index);
+            }
+        }
+        if (locations != null) {
+            locations = Arrays.copyOf(locations, numLocations);
+        }
+        Topology current = topology;
+        boolean[] removed = Arrays.copyOf(current.removed(), numLocations);
+        int numRemoved = current.numRemoved();
+        for (int index : changes.removals) {
+            if (!removed[index]) {
+                removed[index] = true;
+                numRemoved++;
+            }
+        }
+        for (int index : changes.descriptions.keySet()) {
+            if (cache != null) {
+                cache.remove(index);
+            } else if (locations[index] != null) {
+                Location previous = locations[index];
+                locations[index] = new Location(
+                        previous.name(), store.description(index), previous.connectedLocations());
+            }
+        }
+
+        int[] newOffsets = new int[numLocations + 1];
+        for (int i = 0; i < numLocations; i++) {
+            int count;
+            if (removed[i]) {
+                count = 0;
+            } else if (changes.connections.containsKey(i)) {
+                count = changes.connections.get(i).size();
+            } else {
+                count = i < oldCount ? current.offsets()[i + 1] - current.offsets()[i] : 0;
+            }
+            newOffsets[i + 1] = newOffsets[i] + count;
+        }
+        int[] newDirections = new int[newOffsets[numLocations]];
+        int[] newTargets = new int[newOffsets[numLocations]];
+        for (int i = 0; i < numLocations; i++) {
+            int slot = newOffsets[i];
+            if (removed[i]) {
+                continue;
+            }
+            Map<String, Integer> replaced = changes.connections.get(i);
+            if (replaced != null) {
+                for (Map.Entry<String, Integer> connection : replaced.entrySet()) {
+                    newDirections[slot] = internDirection(connection.getKey());
+                    newTargets[slot++] = connection.getValue();
+                }
+            } else if (i < oldCount) {
+                for (int edge = current.offsets()[i]; edge < current.offsets()[i + 1]; edge++) {
+                    newDirections[slot] = current.edgeDirections()[edge];
+                    newTargets[slot++] = current.edgeTargets()[edge];
+                }
+            }
+        }
+        for (int edge = 0; edge < newTargets.length; edge++) {
+            if (newTargets[edge] != NO_ID && removed[newTargets[edge]]) {
+                newTargets[edge] = NO_ID;
+            }
+        }
+        topology = new Topology(removed, numRemoved, newOffsets, newDirections, newTargets);
+        modificationCount++;
+    }
+
+    static class Changes {
+        private final int firstNewIndex;
+        private final List<String> names = new ArrayList<>();
+        private final List<String> newDescriptions = new ArrayList<>();
+        private final Map<Integer, String> descriptions = new HashMap<>();
+        private final List<Integer> removals = new ArrayList<>();
+        private final Map<Integer, Map<String, Integer>> connections = new HashMap<>();
+
+        private Changes(int firstNewIndex) {
+            this.firstNewIndex = firstNewIndex;
+        }
+
+        // The index the location will have once the changes are applied.
+        int addLocation(String name, String description) {
+            names.add(name);
+            newDescriptions.add(description);
+            return firstNewIndex + names.size() - 1;
+        }
+
+        Changes setDescription(int index, String description) {
+            descriptions.put(index, description);
+            return this;
+        }
+
+        Changes removeLocation(int index) {
+            removals.add(index);
+            return this;
+        }
+
+        // Replaces all connections of the location; the targets are indices, which may refer to added locations.
+        Changes setConnections(int index, Map<String, Integer> targetsByDirection) {
+            connections.put(index, targetsByDirection);
+            return this;
+        }
+
+        boolean isEmpty() {
+            return names.isEmpty() && descriptions.isEmpty() && removals.isEmpty() && connections.isEmpty();
+        }
+    }
+
+    private ArrayLocationStore mutableStore() {
+        if (!(store instanceof ArrayLocationStore)) {
+            store = ArrayLocationStore.copyOf(store);
+        }
+        return (ArrayLocationStore) store;
+    }
+
+    // Directions are few and rarely added, so the table is copied instead of changed in place.
+    private int internDirection(String directionName) {
+        Directions current = directions;
+        Integer id = current.ids().get(directionName);
+        if (id != null) {
+            return id;
+        }
+        Map<String, Integer> ids = new HashMap<>(current.ids());
+        List<String> names = new ArrayList<>(current.names());
+        ids.put(directionName, names.size());
+        names.add(directionName);
+        directions = new Directions(ids, names);
+        return names.size() - 1;
+    }
+
+    private static int[] insert(int[] values, int index, int value) {
+        int[] result = Arrays.copyOf(values, values.length + 1);
+        System.arraycopy(values, index, result, index + 1, values.length - index);
+        result[index] = value;
+        return result;
+    }
+
+    private static int[] delete(int[] values, int index) {
+        int[] result = new int[values.length - 1];
+        System.arraycopy(values, 0, result, 0, index);
+        System.arraycopy(values, index + 1, result, index, values.length - index - 1);
+        return result;
+    }
+
+    // Index of a location in its graph, or NO_ID for locations that do not belong to a graph.
+    public static int indexOf(Location location) {
+        if (location != null && location.connectedLocations() instanceof CompiledConnections compiled) {
+            return compiled.locationIndex();
+        }
+        return NO_ID;
+    }
+
+    // Builds a graph in a single pass over the location data. Every location name gets a provisional id the first
+    // time it is mentioned, so connections to locations that are defined later in the data can be recorded as plain
+    // ints. When the graph is built, the provisional ids are mapped to the final indices, which follow the order in
+    // which the locations were defined.
+    //
+    // The builder validates what it is given as it goes: invalid and duplicate names are recorded when a location is
+    // added, connections from or to undefined locations when the graph is built. build() throws a
+    // WorldValidationException with all of them; locations that cannot be reached from the first location are only
+    // warnings, which are available from getWarnings() afterwards.
+    public static class Builder implements LocationDataHandler {
+        private final Map<String, Integer> provisionalIds = new HashMap<>();
+        private final List<String> names = new ArrayList<>();
+        private int[] definedAs = new int[16];
+        private final List<String> descriptions = new ArrayList<>();
+        private final StringPool descriptionPool = new StringPool();
+        private final Map<String, Integer> directionIds = new HashMap<>();
+        private final List<String> directionNames = new ArrayList<>();
+        private int[] edgeSources = new int[16];
+        private int[] edgeDirections = new int[16];
+        private int[] edgeTargets = new int[16];
+        private int numEdges = 0;
+        private final List<WorldProblem> problems = new ArrayList<>();
+        private String[] builtNames = new String[0];
+        private boolean[] isReachable = new boolean[0];
+
+        // Locations with problems still take up an index, so that problems refer to the position in the data.
+        public Builder addLocation(String name, String description) {
+            int index = descriptions.size();
+            descriptions.add(descriptionPool.intern(description));
+            if (description == null) {
+                problems.add(new WorldProblem(WorldProblem.Kind.INVALID_DESCRIPTION, index,
+                        String.format("Location %d has no description", index)));
+            }
+            if (name == null || name.isEmpty()) {
+                problems.add(new WorldProblem(WorldProblem.Kind.INVALID_NAME, index,
+                        String.format("Location %d has no valid name", index)));
+                return this;
+            }
+            int id = provisionalId(name);
+            if (definedAs[id] != NO_ID) {
+                problems.add(new WorldProblem(WorldProblem.Kind.DUPLICATE_NAME, index,
+                        String.format("Location '%s' is defined more than once", name)));
+                return this;
+            }
+            definedAs[id] = index;
+            return this;
+        }
+
+        public Builder addConnection(String fromName, String directionName, String toName) {
+            if (numEdges == edgeSources.length) {
+                edgeSources = Arrays.copyOf(edgeSources, numEdges * 2);
+                edgeDirections = Arrays.copyOf(edgeDirections, numEdges * 2);
+                edgeTargets = Arrays.copyOf(edgeTargets, numEdges * 2);
+            }
+            edgeSources[numEdges] = provisionalId(fromName);
+            edgeDirections[numEdges] = directionIds.computeIfAbsent(directionName, name -> {
+                directionNames.add(name);
+                return directionNames.size() - 1;
+            });
+            edgeTargets[numEdges] = provisionalId(toName);
+            numEdges++;
+            return this;
+        }
+
+        @Override
+        public void handleLocation(String name, String description) {
+            addLocation(name, description);
+        }
+
+        @Override
+        public void handleConnection(String fromName, String direction, String toName) {
+            addConnection(fromName, direction, toName);
+        }
+
+        private int provisionalId(String name) {
+            Integer id = provisionalIds.get(name);
+            if (id == null) {
+                id = names.size();
+                provisionalIds.put(name, id);
+                names.add(name);
+                if (id == definedAs.length) {
+                    definedAs = Arrays.copyOf(definedAs, id * 2);
+                }
+                definedAs[id] = NO_ID;
+            }
+            return id;
+        }
+
+        // Locations that cannot be reached from the first location in the graph built last. Shards of a world usually
+        // have many of them, so the problems are only created when they are requested.
+        public List<WorldProblem> getWarnings() {
+            List<WorldProblem> result = new ArrayList<>();
+            for (int i = 0; i < builtNames.length; i++) {
+                if (!isReachable[i]) {
+                    result.add(new WorldProblem(WorldProblem.Kind.UNREACHABLE, i, String.format(
+                            "Location '%s' cannot be reached from '%s'", builtNames[i], builtNames[0])));
+                }
+            }
+            return result;
+        }
+
+        public WorldGraph build() {
+            int numLocations = descriptions.size();
+            List<WorldProblem> allProblems = new ArrayList<>(problems);
+            int[] offsets = new int[numLocations + 1];
+            for (int edge = 0; edge < numEdges; edge++) {
+                int from = definedAs[edgeSources[edge]];
+                if (from == NO_ID) {
+                    allProblems.add(new WorldProblem(WorldProblem.Kind.DANGLING_REFERENCE, NO_ID, String.format(
+                            "Connection %s from unknown location '%s'",
+                            directionNames.get(edgeDirections[edge]), names.get(edgeSources[edge]))));
+                    continue;
+                }
+                if (definedAs[edgeTargets[edge]] == NO_ID) {
+                    allProblems.add(new WorldProblem(WorldProblem.Kind.DANGLING_REFERENCE, from, String.format(
+                            "Location '%s' leads %s to unknown location '%s'", names.get(edgeSources[edge]),
+                            directionNames.get(edgeDirections[edge]), names.get(edgeTargets[edge]))));
+                }
+                offsets[from + 1]++;
+            }
+            if (!allProblems.isEmpty()) {
+                allProblems.sort(Comparator.comparingInt(WorldProblem::locationIndex));
+                throw new WorldValidationException(allProblems);
+            }
+            for (int i = 0; i < numLocations; i++) {
+                offsets[i + 1] += offsets[i];
+            }
+            int[] next = Arrays.copyOf(offsets, numLocations);
+            int[] sortedDirections = new int[numEdges];
+            int[] sortedTargets = new int[numEdges];
+            for (int edge = 0; edge < numEdges; edge++) {
+                int slot = next[definedAs[edgeSources[edge]]]++;
+                sortedDirections[slot] = edgeDirections[edge];
+                sortedTargets[slot] = definedAs[edgeTargets[edge]];
+            }
+            String[] locationNames = new String[numLocations];
+            for (int id = 0; id < names.size(); id++) {
+                if (definedAs[id] != NO_ID) {
+                    locationNames[definedAs[id]] = names.get(id);
+                }
+            }
+            builtNames = locationNames;
+            isReachable = reachableFromFirst(offsets, sortedTargets);
+            LocationStore store = new ArrayLocationStore(
+                    locationNames, descriptions.toArray(String[]::new), descriptionPool);
+            return new WorldGraph(directionNames, store, offsets, sortedDirections, sortedTargets);
+        }
+
+        private static boolean[] reachableFromFirst(int[] offsets, int[] targets) {
+            int numLocations = offsets.length - 1;
+            boolean[] visited = new boolean[numLocations];
+            if (numLocations == 0) {
+                return visited;
+            }
+            int[] queue = new int[numLocations];
+            int size = 1;
+            visited[0] = true;
+            for (int head = 0; head < size; head++) {
+                for (int edge = offsets[queue[head]]; edge < offsets[queue[head] + 1]; edge++) {
+                    if (!visited[targets[edge]]) {
+                        visited[targets[edge]] = true;
+                        queue[size++] = targets[edge];
+                    }
+                }
+            }
+            return visited;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package adventure.v5c;
+
+import java.io.Serializable;
+
+// A problem found when validating location data. The location index is the position of the location in the data, or
+// NO_ID for problems that do not concern a single location. Unreachable locations are only warnings: the world can
+// still be built, but players cannot get there.
+public record WorldProblem(Kind kind, int locationIndex, String message) implements Serializable {
+    public enum Kind {
+        INVALID_NAME, INVALID_DESCRIPTION, INVALID_CONNECTIONS, DUPLICATE_NAME, DANGLING_REFERENCE,
+        UNKNOWN_INITIAL_LOCATION, UNREACHABLE
+    }
+
+    public boolean isWarning() {
+        return kind == Kind.UNREACHABLE;
+    }
+
+    @Override
+    public String toString() {
+        return kind + ": " + message;
+    }
+}
@@ -0,0 +1,222 @@
+package adventure.v5c;
+
+import adventure.data.JsonLocationReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Updates a running world when its location file changes. The new file is compared with the live world and only the
+// differences are applied to the world's graph: locations are added, removed or get a new description, and
+// connections are added, removed or redirected. All differences are collected first and applied together, so the
+// connection arrays of the graph are rebuilt once per reload. Afterward, players are moved to the current Location
+// objects; players in removed locations are moved to the initial location.
+//
+// The file can be watched in the background with start(). The watcher thread only reads the file; the changes are
+// applied when the game calls applyPendingChanges() between turns, so that no turn sees a half-updated world.
+public class WorldReloader implements AutoCloseable {
+    private final World world;
+    private final Path file;
+    private final Collection<Player> players;
+    private final AtomicReference<WorldGraph> pendingChanges = new AtomicReference<>();
+    private volatile Exception lastError = null;
+    private WatchService watchService;
+    private Thread watcher;
+
+    public WorldReloader(World world, Path file, Collection<Player> players) {
+        this.world = world;
+        this.file = file.toAbsolutePath();
+        this.players = players;
+    }
+
+    public ReloadResult reload() throws IOException {
+        return apply(readFile());
+    }
+
+    public ReloadResult apply(WorldGraph newData) {
+        WorldGraph graph = world.graph();
+        synchronized (graph) {
+            WorldGraph.Changes changes = graph.changes();
+            int[] indexInGraph = new int[newData.locationCount()];
+            int added = 0;
+            int changed = 0;
+            int removed = 0;
+            for (int i = 0; i < newData.locationCount(); i++) {
+                String name = newData.name(i);
+                String description = newData.description(i);
+                int index = graph.indexOf(name);
+                if (index == WorldGraph.NO_ID) {
+                    index = changes.addLocation(name, description);
+                    added++;
+                } else if (!graph.description(index).equals(description)) {
+                    changes.setDescription(index, description);
+                    changed++;
+                }
+                indexInGraph[i] = index;
+            }
+            for (int index = 0; index < graph.locationCount(); index++) {
+                if (!graph.isRemoved(index) && newData.indexOf(graph.name(index)) == WorldGraph.NO_ID) {
+                    changes.removeLocation(index);
+                    removed++;
+                }
+            }
+            int changedConnections = 0;
+            for (int i = 0; i < newData.locationCount(); i++) {
+                changedConnections += updateConnections(graph, indexInGraph[i], newData, i, indexInGraph, changes);
+            }
+            if (!changes.isEmpty()) {
+                graph.apply(changes);
+            }
+            return new ReloadResult(added, removed, changed, changedConnections, relocatePlayers(graph));
+        }
+    }
+
+    public synchronized void start() throws IOException {
+        if (watcher != null) {
+            return;
+        }
+        watchService = file.getFileSystem().newWatchService();
+        file.getParent().register(
+                watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        watcher = new Thread(this::watch, "world-reloader-" + file.getFileName());
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    public boolean hasPendingChanges() {
+        return pendingChanges.get() != null;
+    }
+
+    // The error from the last attempt to read the watched file, e.g., because it was saved with a syntax error.
+    public Exception getLastError() {
+        return lastError;
+    }
+
+    public ReloadResult applyPendingChanges() {
+        WorldGraph changes = pendingChanges.getAndSet(null);
+        return changes == null ? ReloadResult.NO_CHANGES : apply(changes);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+            watcher.interrupt();
+            watchService = null;
+            watcher = null;
+        }
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean isChanged = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.context() instanceof Path changed && file.getFileName().equals(changed)) {
+                        isChanged = true;
+                    }
+                }
+                key.reset();
+                if (isChanged) {
+                    readPendingChanges();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // The reloader was closed.
+        }
+    }
+
+    private void readPendingChanges() {
+        try {
+            pendingChanges.set(readFile());
+            lastError = null;
+        } catch (IOException | RuntimeException e) {
+            // The file may be incomplete while it is being written; the next event will read it again.
+            lastError = e;
+        }
+    }
+
+    private WorldGraph readFile() throws IOException {
+        WorldGraph.Builder builder = new WorldGraph.Builder();
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            JsonLocationReader.read(inputStream, builder);
+        }
+        return builder.build();
+    }
+
+    // Records the new connections of the location if they differ from the current ones. Connections that are kept
+    // stay in their place, new ones are appended in the order of the file. Returns the number of connections that
+    // were added, removed or redirected.
+    private static int updateConnections(
+            WorldGraph graph, int index, WorldGraph newData, int newIndex, int[] indexInGraph,
+            WorldGraph.Changes changes) {
+        Map<String, Integer> targets = new LinkedHashMap<>();
+        for (int c = 0; c < newData.connectionCount(newIndex); c++) {
+            int newTarget = newData.connectionTarget(newIndex, c);
+            int target = newTarget == WorldGraph.NO_ID ? WorldGraph.NO_ID : indexInGraph[newTarget];
+            targets.put(newData.directionName(newData.connectionDirection(newIndex, c)), target);
+        }
+        int numChanges = 0;
+        Map<String, Integer> connections = new LinkedHashMap<>();
+        int numCurrent = index < graph.locationCount() ? graph.connectionCount(index) : 0;
+        for (int c = 0; c < numCurrent; c++) {
+            String direction = graph.directionName(graph.connectionDirection(index, c));
+            Integer target = targets.remove(direction);
+            if (target == null) {
+                numChanges++;
+            } else {
+                if (target != graph.connectionTarget(index, c)) {
+                    numChanges++;
+                }
+                connections.put(direction, target);
+            }
+        }
+        numChanges += targets.size();
+        connections.putAll(targets);
+        if (numChanges > 0) {
+            changes.setConnections(index, connections);
+        }
+        return numChanges;
+    }
+
+    private int relocatePlayers(WorldGraph graph) {
+        int numRelocated = 0;
+        for (Player player : players) {
+            Location location = player.getLocation();
+            Location current = null;
+            if (location != null && location.connectedLocations() instanceof CompiledConnections compiled
+                    && compiled.graph() == graph && !graph.isRemoved(compiled.locationIndex())) {
+                current = graph.location(compiled.locationIndex());
+            }
+            if (current == null) {
+                current = fallbackLocation(graph);
+            }
+            if (current != location) {
+                player.moveToLocation(current);
+                numRelocated++;
+            }
+        }
+        return numRelocated;
+    }
+
+    private Location fallbackLocation(WorldGraph graph) {
+        int index = graph.indexOf(world.initialLocationName());
+        for (int i = 0; index == WorldGraph.NO_ID && i < graph.locationCount(); i++) {
+            if (!graph.isRemoved(i)) {
+                index = i;
+            }
+        }
+        return index == WorldGraph.NO_ID ? null : graph.location(index);
+    }
+}
@@ -0,0 +1,262 @@
+package adventure.v5c;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Binary snapshot of a WorldGraph. All numbers are big-endian ints; the file consists of
+//
+//   header:        magic, version, locationCount, directionCount, edgeCount, stringCount, stringBytes
+//   directions:    string id of each direction name
+//   locations:     string id of each location name, then string id of each description
+//   name order:    location indices sorted by the UTF-8 bytes of their names
+//   adjacency:     offsets (locationCount + 1), edge directions (edgeCount), edge targets (edgeCount)
+//   string table:  offsets (stringCount + 1) into the UTF-8 bytes that follow
+//
+// Identical strings are only stored once and removed locations are left out. When a snapshot is opened, only the
+// adjacency arrays are copied out of the mapped file; names and descriptions are decoded when a location is first
+// used.
+public class WorldSnapshot {
+    static final int MAGIC = 0x41445657;
+    static final int VERSION = 1;
+    private static final int HEADER_INTS = 7;
+
+    public static void write(WorldGraph graph, Path path) throws IOException {
+        int numLocations = graph.liveLocationCount();
+        // Removed locations leave gaps in the indices of the graph; the snapshot uses consecutive indices.
+        int[] graphIndices = new int[numLocations];
+        int[] snapshotIndices = new int[graph.locationCount()];
+        int numWritten = 0;
+        for (int i = 0; i < graph.locationCount(); i++) {
+            snapshotIndices[i] = graph.isRemoved(i) ? WorldGraph.NO_ID : numWritten;
+            if (!graph.isRemoved(i)) {
+                graphIndices[numWritten++] = i;
+            }
+        }
+        StringTable strings = new StringTable();
+        int[] directionStrings = new int[graph.directionCount()];
+        for (int i = 0; i < directionStrings.length; i++) {
+            directionStrings[i] = strings.add(graph.directionName(i));
+        }
+        int[] nameStrings = new int[numLocations];
+        int[] descriptionStrings = new int[numLocations];
+        for (int i = 0; i < numLocations; i++) {
+            Location location = graph.location(graphIndices[i]);
+            nameStrings[i] = strings.add(location.name());
+            descriptionStrings[i] = strings.add(location.description());
+        }
+        Integer[] nameOrder = new Integer[numLocations];
+        for (int i = 0; i < numLocations; i++) {
+            nameOrder[i] = i;
+        }
+        Arrays.sort(nameOrder, (a, b) -> Arrays.compareUnsigned(
+                strings.bytes(nameStrings[a]), strings.bytes(nameStrings[b])));
+
+        int numEdges = 0;
+        for (int i = 0; i < numLocations; i++) {
+            numEdges += graph.connectionCount(graphIndices[i]);
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(numLocations);
+            out.writeInt(directionStrings.length);
+            out.writeInt(numEdges);
+            out.writeInt(strings.size());
+            out.writeInt(strings.byteCount());
+            writeInts(out, directionStrings);
+            writeInts(out, nameStrings);
+            writeInts(out, descriptionStrings);
+            for (int index : nameOrder) {
+                out.writeInt(index);
+            }
+            int offset = 0;
+            out.writeInt(offset);
+            for (int i : graphIndices) {
+                offset += graph.connectionCount(i);
+                out.writeInt(offset);
+            }
+            for (int i : graphIndices) {
+                for (int c = 0; c < graph.connectionCount(i); c++) {
+                    out.writeInt(graph.connectionDirection(i, c));
+                }
+            }
+            for (int i : graphIndices) {
+                for (int c = 0; c < graph.connectionCount(i); c++) {
+                    int target = graph.connectionTarget(i, c);
+                    out.writeInt(target == WorldGraph.NO_ID ? WorldGraph.NO_ID : snapshotIndices[target]);
+                }
+            }
+            strings.writeTo(out);
+        }
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+
+    public static WorldGraph open(Path path) throws IOException {
+        return open(path, 0);
+    }
+
+    // Opens a paged graph that keeps at most maxResidentLocations Location objects in memory; 0 means no limit.
+    public static WorldGraph open(Path path, int maxResidentLocations) throws IOException {
+        if (maxResidentLocations < 0) {
+            throw new IllegalArgumentException("Invalid number of resident locations: " + maxResidentLocations);
+        }
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.capacity() < HEADER_INTS * Integer.BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a world snapshot: " + path);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("Unsupported snapshot version " + buffer.getInt(4) + ": " + path);
+        }
+        int numLocations = buffer.getInt(8);
+        int numDirections = buffer.getInt(12);
+        int numEdges = buffer.getInt(16);
+        int numStrings = buffer.getInt(20);
+        int numStringBytes = buffer.getInt(24);
+        long expectedSize = (HEADER_INTS + numDirections + 4L * numLocations + 1 + 2L * numEdges + numStrings + 1)
+                * Integer.BYTES + numStringBytes;
+        if (numLocations < 0 || numDirections < 0 || numEdges < 0 || numStrings < 0 || numStringBytes < 0
+                || buffer.capacity() != expectedSize) {
+            throw new IllegalArgumentException("Corrupt world snapshot: " + path);
+        }
+
+        int position = HEADER_INTS * Integer.BYTES;
+        int directionsAt = position;
+        position += numDirections * Integer.BYTES;
+        int namesAt = position;
+        position += numLocations * Integer.BYTES;
+        int descriptionsAt = position;
+        position += numLocations * Integer.BYTES;
+        int nameOrderAt = position;
+        position += numLocations * Integer.BYTES;
+        int[] offsets = readInts(buffer, position, numLocations + 1);
+        position += (numLocations + 1) * Integer.BYTES;
+        int[] edgeDirections = readInts(buffer, position, numEdges);
+        position += numEdges * Integer.BYTES;
+        int[] edgeTargets = readInts(buffer, position, numEdges);
+        position += numEdges * Integer.BYTES;
+        int stringOffsetsAt = position;
+        int stringBytesAt = position + (numStrings + 1) * Integer.BYTES;
+        checkSnapshot(buffer, path, numLocations, numDirections, numEdges, numStrings, numStringBytes,
+                directionsAt, offsets, edgeDirections, edgeTargets, stringOffsetsAt);
+
+        boolean isPaged = maxResidentLocations > 0;
+        // Paged graphs do not keep descriptions of evicted locations, so they cannot be shared.
+        SnapshotLocationStore store = new SnapshotLocationStore(
+                buffer, numLocations, namesAt, descriptionsAt, nameOrderAt, isPaged ? 0 : numStrings,
+                stringOffsetsAt, stringBytesAt);
+        List<String> directionNames = new ArrayList<>(numDirections);
+        for (int i = 0; i < numDirections; i++) {
+            directionNames.add(store.string(buffer.getInt(directionsAt + i * Integer.BYTES)));
+        }
+        return new WorldGraph(
+                directionNames, store, offsets, edgeDirections, edgeTargets,
+                isPaged ? new LocationCache(maxResidentLocations) : null);
+    }
+
+    // Checks that all ids and offsets are in range, so that a damaged or hand-edited file is rejected when it is
+    // opened instead of failing when some location is first used.
+    private static void checkSnapshot(
+            ByteBuffer buffer, Path path, int numLocations, int numDirections, int numEdges, int numStrings,
+            int numStringBytes, int directionsAt, int[] offsets, int[] edgeDirections, int[] edgeTargets,
+            int stringOffsetsAt) {
+        // Direction names, location names and descriptions are string ids, followed by the name order.
+        int nameOrderAt = directionsAt + (numDirections + 2 * numLocations) * Integer.BYTES;
+        boolean isValid = offsets[0] == 0 && offsets[numLocations] == numEdges
+                && areInRange(buffer, directionsAt, numDirections + 2 * numLocations, numStrings)
+                && areInRange(buffer, nameOrderAt, numLocations, numLocations)
+                && buffer.getInt(stringOffsetsAt) == 0
+                && buffer.getInt(stringOffsetsAt + numStrings * Integer.BYTES) == numStringBytes;
+        for (int i = 0; isValid && i < numLocations; i++) {
+            isValid = offsets[i] <= offsets[i + 1];
+        }
+        for (int i = 0; isValid && i < numStrings; i++) {
+            isValid = buffer.getInt(stringOffsetsAt + i * Integer.BYTES)
+                    <= buffer.getInt(stringOffsetsAt + (i + 1) * Integer.BYTES);
+        }
+        for (int edge = 0; isValid && edge < numEdges; edge++) {
+            isValid = edgeDirections[edge] >= 0 && edgeDirections[edge] < numDirections
+                    && edgeTargets[edge] >= WorldGraph.NO_ID && edgeTargets[edge] < numLocations;
+        }
+        if (!isValid) {
+            throw new IllegalArgumentException("Corrupt world snapshot: " + path);
+        }
+    }
+
+    // Whether the count ints starting at position are at least 0 and less than bound.
+    private static boolean areInRange(ByteBuffer buffer, int position, int count, int bound) {
+        for (int i = 0; i < count; i++) {
+            int value = buffer.getInt(position + i * Integer.BYTES);
+            if (value < 0 || value >= bound) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int[] readInts(ByteBuffer buffer, int position, int count) {
+        int[] result = new int[count];
+        buffer.slice(position, count * Integer.BYTES).asIntBuffer().get(result);
+        return result;
+    }
+
+    private static class StringTable {
+        private final Map<String, Integer> ids = new HashMap<>();
+        private final List<byte[]> strings = new ArrayList<>();
+        private int byteCount = 0;
+
+        int add(String string) {
+            return ids.computeIfAbsent(string, s -> {
+                byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+                strings.add(bytes);
+                byteCount += bytes.length;
+                return strings.size() - 1;
+            });
+        }
+
+        byte[] bytes(int id) {
+            return strings.get(id);
+        }
+
+        int size() {
+            return strings.size();
+        }
+
+        int byteCount() {
+            return byteCount;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            int offset = 0;
+            out.writeInt(offset);
+            for (byte[] string : strings) {
+                offset += string.length;
+                out.writeInt(offset);
+            }
+            for (byte[] string : strings) {
+                out.write(string);
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package adventure.v5c;
+
+import java.util.List;
+
+// Thrown when location data has problems; contains all problems that were found, not only the first one.
+public class WorldValidationException extends IllegalArgumentException {
+    private static final long serialVersionUID = 1L;
+    private static final int MAX_PROBLEMS_IN_MESSAGE = 10;
+
+    private final WorldProblem[] problems;
+
+    public WorldValidationException(List<WorldProblem> problems) {
+        super(message(problems));
+        this.problems = problems.toArray(WorldProblem[]::new);
+    }
+
+    public List<WorldProblem> getProblems() {
+        return List.of(problems);
+    }
+
+    private static String message(List<WorldProblem> problems) {
+        StringBuilder result = new StringBuilder();
+        result.append(problems.size()).append(problems.size() == 1 ? " problem" : " problems").append(" in world");
+        for (WorldProblem problem : problems.subList(0, Math.min(problems.size(), MAX_PROBLEMS_IN_MESSAGE))) {
+            result.append("\n  ").append(problem);
+        }
+        if (problems.size() > MAX_PROBLEMS_IN_MESSAGE) {
+            result.append("\n  ...");
+        }
+        return result.toString();
+    }
+}
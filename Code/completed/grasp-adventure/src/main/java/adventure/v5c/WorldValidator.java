@@ -0,0 +1,273 @@
+package adventure.v5c;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+// Checks location data in the format of the JSON files before a world is built from it and reports all problems at
+// once: invalid names, descriptions or connections, duplicate names, connections to unknown locations and locations
+// that cannot be reached from the initial location. All phases run in parallel over the locations. Each location
+// collects its own problems, so they are reported in the order of the locations, independent of the scheduling of the
+// threads. Unreachable locations are warnings; check() only rejects data with errors.
+public class WorldValidator {
+    // Number of frontier locations that one task expands in the breadth first search.
+    private static final int CHUNK_SIZE = 4096;
+
+    public static List<WorldProblem> validate(List<Map<String, Object>> locationData, String initialLocationName) {
+        int numLocations = locationData.size();
+        WorldProblem[][] problems = new WorldProblem[numLocations][];
+        String[] names = new String[numLocations];
+        Map<?, ?>[] connections = new Map<?, ?>[numLocations];
+        parallel(numLocations, i -> checkLocation(locationData.get(i), i, names, connections, problems));
+
+        // The connections of all locations are stored in one array; connection c of location i is at offsets[i] + c.
+        int[] offsets = new int[numLocations + 1];
+        for (int i = 0; i < numLocations; i++) {
+            offsets[i + 1] = offsets[i] + (connections[i] == null ? 0 : connections[i].size());
+        }
+        int[] targets = new int[offsets[numLocations]];
+        NameIndex indices = new NameIndex(names);
+        parallel(numLocations, i -> {
+            if (indices.isDuplicate(i)) {
+                add(problems, i, new WorldProblem(WorldProblem.Kind.DUPLICATE_NAME, i,
+                        String.format("Location '%s' is defined more than once", names[i])));
+            }
+            if (connections[i] != null) {
+                checkConnections(connections[i], i, names, indices, targets, offsets[i], problems);
+            }
+        });
+
+        List<WorldProblem> result = new ArrayList<>();
+        int initialIndex = initialLocationName == null ? WorldGraph.NO_ID : indices.indexOf(initialLocationName);
+        if (initialIndex == WorldGraph.NO_ID) {
+            result.add(new WorldProblem(WorldProblem.Kind.UNKNOWN_INITIAL_LOCATION, WorldGraph.NO_ID,
+                    String.format("Initial location '%s' is not defined", initialLocationName)));
+        } else {
+            AtomicIntegerArray visited = reachableFrom(initialIndex, offsets, targets);
+            parallel(numLocations, i -> {
+                if (names[i] != null && !indices.isDuplicate(i) && visited.get(i) == 0) {
+                    add(problems, i, new WorldProblem(WorldProblem.Kind.UNREACHABLE, i, String.format(
+                            "Location '%s' cannot be reached from '%s'", names[i], initialLocationName)));
+                }
+            });
+        }
+        for (WorldProblem[] locationProblems : problems) {
+            if (locationProblems != null) {
+                Collections.addAll(result, locationProblems);
+            }
+        }
+        return result;
+    }
+
+    // Throws a WorldValidationException with all problems if there are errors; otherwise returns the warnings.
+    public static List<WorldProblem> check(List<Map<String, Object>> locationData, String initialLocationName) {
+        return check(validate(locationData, initialLocationName));
+    }
+
+    static List<WorldProblem> check(List<WorldProblem> problems) {
+        if (problems.stream().anyMatch(problem -> !problem.isWarning())) {
+            throw new WorldValidationException(problems);
+        }
+        return problems;
+    }
+
+    private static void parallel(int count, IntConsumer action) {
+        IntStream.range(0, count).parallel().forEach(action);
+    }
+
+    // Only the task that checks a location adds problems for it, so no synchronization is needed.
+    private static void add(WorldProblem[][] problems, int index, WorldProblem problem) {
+        WorldProblem[] current = problems[index];
+        if (current == null) {
+            problems[index] = new WorldProblem[]{problem};
+        } else {
+            WorldProblem[] extended = Arrays.copyOf(current, current.length + 1);
+            extended[current.length] = problem;
+            problems[index] = extended;
+        }
+    }
+
+    private static void checkLocation(
+            Map<String, Object> data, int index, String[] names, Map<?, ?>[] connections, WorldProblem[][] problems) {
+        if (data != null && data.get("name") instanceof String name && !name.isEmpty()) {
+            names[index] = name;
+        } else {
+            add(problems, index, new WorldProblem(WorldProblem.Kind.INVALID_NAME, index,
+                    String.format("Location %d has no valid name", index)));
+        }
+        if (data == null) {
+            return;
+        }
+        String label = label(index, names);
+        Object description = data.getOrDefault("description", "");
+        if (!(description instanceof String)) {
+            add(problems, index, new WorldProblem(WorldProblem.Kind.INVALID_DESCRIPTION, index,
+                    String.format("Location %s has an invalid description: %s", label, description)));
+        }
+        Object locationConnections = data.get("connections");
+        if (locationConnections instanceof Map<?, ?> connectionMap) {
+            connections[index] = connectionMap;
+        } else {
+            add(problems, index, new WorldProblem(WorldProblem.Kind.INVALID_CONNECTIONS, index,
+                    String.format("Location %s has invalid connections: %s", label, locationConnections)));
+        }
+    }
+
+    private static String label(int index, String[] names) {
+        return names[index] != null ? "'" + names[index] + "'" : String.valueOf(index);
+    }
+
+    // Stores the index of the target of each connection, or NO_ID if the connection cannot be followed.
+    private static void checkConnections(
+            Map<?, ?> connections, int index, String[] names, NameIndex indices, int[] targets, int offset,
+            WorldProblem[][] problems) {
+        int edge = offset;
+        for (Map.Entry<?, ?> connection : connections.entrySet()) {
+            int target = WorldGraph.NO_ID;
+            if (!(connection.getKey() instanceof String direction) || !(connection.getValue() instanceof String to)) {
+                add(problems, index, new WorldProblem(WorldProblem.Kind.INVALID_CONNECTIONS, index, String.format(
+                        "Location %s has an invalid connection: %s", label(index, names), connection)));
+            } else {
+                target = indices.indexOf(to);
+                if (target == WorldGraph.NO_ID) {
+                    add(problems, index, new WorldProblem(WorldProblem.Kind.DANGLING_REFERENCE, index, String.format(
+                            "Location %s leads %s to unknown location '%s'", label(index, names), direction, to)));
+                }
+            }
+            targets[edge++] = target;
+        }
+    }
+
+    // Breadth first search that expands each level of the search in parallel, in chunks of the frontier.
+    private static AtomicIntegerArray reachableFrom(int start, int[] offsets, int[] targets) {
+        AtomicIntegerArray visited = new AtomicIntegerArray(offsets.length - 1);
+        visited.set(start, 1);
+        int[] frontier = {start};
+        while (frontier.length > 0) {
+            int[] current = frontier;
+            int[][] next = new int[(current.length + CHUNK_SIZE - 1) / CHUNK_SIZE][];
+            parallel(next.length, chunk -> next[chunk] = expand(
+                    current, chunk * CHUNK_SIZE, Math.min(current.length, (chunk + 1) * CHUNK_SIZE),
+                    offsets, targets, visited));
+            frontier = concat(next);
+        }
+        return visited;
+    }
+
+    private static int[] expand(
+            int[] frontier, int from, int to, int[] offsets, int[] targets, AtomicIntegerArray visited) {
+        int[] result = new int[16];
+        int size = 0;
+        for (int i = from; i < to; i++) {
+            int location = frontier[i];
+            for (int edge = offsets[location]; edge < offsets[location + 1]; edge++) {
+                int target = targets[edge];
+                // Most targets have been visited already; reading first avoids a locked instruction for each of them.
+                if (target != WorldGraph.NO_ID && visited.get(target) == 0 && visited.compareAndSet(target, 0, 1)) {
+                    if (size == result.length) {
+                        result = Arrays.copyOf(result, size * 2);
+                    }
+                    result[size++] = target;
+                }
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    private static int[] concat(int[][] parts) {
+        int size = 0;
+        for (int[] part : parts) {
+            size += part.length;
+        }
+        int[] result = new int[size];
+        int position = 0;
+        for (int[] part : parts) {
+            System.arraycopy(part, 0, result, position, part.length);
+            position += part.length;
+        }
+        return result;
+    }
+
+    // Open addressing hash table from names to the index of the first location with the name. Looking up millions of
+    // connection targets is the bulk of the validation, and following references to name strings spread over the
+    // heap would dominate it. Therefore the characters of all names are copied into one array. Each slot takes two
+    // adjacent longs: the hash code and the index of the location, and the position and length of its name; a lookup
+    // only compares characters when the hash codes match.
+    private static class NameIndex {
+        private static final long EMPTY = -1L;
+
+        private final char[] characters;
+        private final long[] slots;
+        private final int shift;
+        private final boolean[] isDuplicate;
+
+        NameIndex(String[] names) {
+            int numCharacters = 0;
+            for (String name : names) {
+                numCharacters += name == null ? 0 : name.length();
+            }
+            characters = new char[numCharacters];
+            int numSlots = Integer.highestOneBit(Math.max(names.length, 1)) * 4;
+            slots = new long[numSlots * 2];
+            shift = Integer.numberOfLeadingZeros(numSlots) + 1;
+            isDuplicate = new boolean[names.length];
+            Arrays.fill(slots, EMPTY);
+            int start = 0;
+            for (int i = 0; i < names.length; i++) {
+                String name = names[i];
+                if (name == null) {
+                    continue;
+                }
+                int slot = slotOf(name);
+                if (slots[slot] == EMPTY) {
+                    name.getChars(0, name.length(), characters, start);
+                    slots[slot] = (long) name.hashCode() << 32 | i;
+                    slots[slot + 1] = (long) start << 32 | name.length();
+                    start += name.length();
+                } else {
+                    isDuplicate[i] = true;
+                }
+            }
+        }
+
+        // The position in slots that holds the name, or the empty one where it would be inserted.
+        private int slotOf(String name) {
+            int mask = slots.length - 1;
+            int hash = name.hashCode();
+            // Names like "Room 1", "Room 2", ... have consecutive hash codes; multiplying spreads them over the table
+            // instead of filling one long run of slots.
+            int slot = ((hash * 0x9E3779B9) >>> shift) * 2;
+            while (slots[slot] != EMPTY && ((int) (slots[slot] >>> 32) != hash || !isNameAt(slots[slot + 1], name))) {
+                slot = (slot + 2) & mask;
+            }
+            return slot;
+        }
+
+        private boolean isNameAt(long positionAndLength, String name) {
+            if ((int) positionAndLength != name.length()) {
+                return false;
+            }
+            int start = (int) (positionAndLength >>> 32);
+            for (int i = 0; i < name.length(); i++) {
+                if (characters[start + i] != name.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        int indexOf(String name) {
+            long entry = slots[slotOf(name)];
+            return entry == EMPTY ? WorldGraph.NO_ID : (int) entry;
+        }
+
+        boolean isDuplicate(int index) {
+            return isDuplicate[index];
+        }
+    }
+}
@@ -4,17 +4,23 @@ import adventure.v5c.Action;
 import adventure.v5c.ActionTag;
 import adventure.v5c.Player;
 
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.Set;
 
 public class ErrorAction implements Action {
+    public static final ErrorAction INSTANCE = new ErrorAction();
+    private static final Set<ActionTag> TAGS =
+            Collections.unmodifiableSet(EnumSet.of(ActionTag.ERROR, ActionTag.DEBUG_ONLY));
+
     @Override
     public String getDescription() {
         return "Raise an error for testing purposes.";
     }
 
     @Override
-    public EnumSet<ActionTag> getTags() {
-        return EnumSet.of(ActionTag.ERROR, ActionTag.DEBUG_ONLY);
+    public Set<ActionTag> getTags() {
+        return TAGS;
     }
 
     @Override
@@ -4,17 +4,22 @@ import adventure.v5c.Action;
 import adventure.v5c.ActionTag;
 import adventure.v5c.Player;
 
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.Set;
 
 public class HealAction implements Action {
+    public static final HealAction INSTANCE = new HealAction();
+    private static final Set<ActionTag> TAGS = Collections.unmodifiableSet(EnumSet.of(ActionTag.HELPFUL));
+
     @Override
     public String getDescription() {
         return "Heal all characters.";
     }
 
     @Override
-    public EnumSet<ActionTag> getTags() {
-        return EnumSet.of(ActionTag.HELPFUL);
+    public Set<ActionTag> getTags() {
+        return TAGS;
     }
 
     @Override
@@ -4,17 +4,23 @@ import adventure.v5c.Action;
 import adventure.v5c.ActionTag;
 import adventure.v5c.Player;
 
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.Set;
 
 public class InvestigateAction implements Action {
+    public static final InvestigateAction INSTANCE = new InvestigateAction();
+    private static final Set<ActionTag> TAGS =
+            Collections.unmodifiableSet(EnumSet.of(ActionTag.INVESTIGATE, ActionTag.AGGRESSIVE));
+
     @Override
     public String getDescription() {
         return "Investigate the current location.";
     }
 
     @Override
-    public EnumSet<ActionTag> getTags() {
-        return EnumSet.of(ActionTag.INVESTIGATE, ActionTag.AGGRESSIVE);
+    public Set<ActionTag> getTags() {
+        return TAGS;
     }
 
     @Override
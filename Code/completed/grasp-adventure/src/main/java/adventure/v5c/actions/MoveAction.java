@@ -2,13 +2,32 @@ package adventure.v5c.actions;
 
 import adventure.v5c.Action;
 import adventure.v5c.ActionTag;
+import adventure.v5c.Location;
 import adventure.v5c.Player;
+import adventure.v5c.WorldGraph;
 
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.Set;
 
 public class MoveAction implements Action {
+    private static final Set<ActionTag> TAGS = Collections.unmodifiableSet(EnumSet.of(ActionTag.MOVE));
+
     public MoveAction(String direction) {
+        this(direction, WorldGraph.NO_ID);
+    }
+
+    public MoveAction(String direction, int directionId) {
         this.direction = direction;
+        this.directionId = directionId;
+    }
+
+    public String getDirection() {
+        return direction;
+    }
+
+    public int getDirectionId() {
+        return directionId;
     }
 
     @Override
@@ -17,14 +36,20 @@ public class MoveAction implements Action {
     }
 
     @Override
-    public EnumSet<ActionTag> getTags() {
-        return EnumSet.of(ActionTag.MOVE);
+    public Set<ActionTag> getTags() {
+        return TAGS;
     }
 
     @Override
     public void perform(Player instigator) {
-        instigator.moveToLocation(instigator.getLocation().getConnectedLocation(direction));
+        Location location = instigator.getLocation();
+        if (directionId == WorldGraph.NO_ID) {
+            instigator.moveToLocation(location.getConnectedLocation(direction));
+        } else {
+            instigator.moveToLocation(location.getConnectedLocation(directionId));
+        }
     }
 
     private final String direction;
+    private final int directionId;
 }
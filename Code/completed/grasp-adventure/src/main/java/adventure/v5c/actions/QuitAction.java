@@ -4,17 +4,22 @@ import adventure.v5c.Action;
 import adventure.v5c.ActionTag;
 import adventure.v5c.Player;
 
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.Set;
 
 public class QuitAction implements Action {
+    public static final QuitAction INSTANCE = new QuitAction();
+    private static final Set<ActionTag> TAGS = Collections.unmodifiableSet(EnumSet.of(ActionTag.QUIT));
+
     @Override
     public String getDescription() {
         return "Exit the game.";
     }
 
     @Override
-    public EnumSet<ActionTag> getTags() {
-        return EnumSet.of(ActionTag.QUIT);
+    public Set<ActionTag> getTags() {
+        return TAGS;
     }
 
     @Override
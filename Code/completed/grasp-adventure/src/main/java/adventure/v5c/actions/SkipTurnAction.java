@@ -4,17 +4,22 @@ import adventure.v5c.Action;
 import adventure.v5c.ActionTag;
 import adventure.v5c.Player;
 
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.Set;
 
 public class SkipTurnAction implements Action {
+    public static final SkipTurnAction INSTANCE = new SkipTurnAction();
+    private static final Set<ActionTag> TAGS = Collections.unmodifiableSet(EnumSet.of(ActionTag.REST));
+
     @Override
     public String getDescription() {
         return "Skip a turn";
     }
 
     @Override
-    public EnumSet<ActionTag> getTags() {
-        return EnumSet.of(ActionTag.REST);
+    public Set<ActionTag> getTags() {
+        return TAGS;
     }
 
     @Override
@@ -0,0 +1,41 @@
+package adventure.v5c.sharding;
+
+import adventure.v5c.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Transport between shards in the same JVM, e.g., for tests. Players are queued when they are sent and handed to
+// their new shards when deliver() is called, so shards never change each other's players during a turn.
+public class InProcessTransport implements ShardTransport {
+    private record Transfer(Player player, LocationRef destination) {
+    }
+
+    private final List<Shard> shards;
+    private final List<Transfer> pending = new ArrayList<>();
+    private long numDelivered = 0;
+
+    public InProcessTransport(List<Shard> shards) {
+        this.shards = List.copyOf(shards);
+    }
+
+    @Override
+    public synchronized void send(Player player, LocationRef destination) {
+        pending.add(new Transfer(player, destination));
+    }
+
+    @Override
+    public synchronized int deliver() {
+        for (Transfer transfer : pending) {
+            shards.get(transfer.destination().shard()).accept(transfer.player(), transfer.destination().index());
+        }
+        int result = pending.size();
+        numDelivered += result;
+        pending.clear();
+        return result;
+    }
+
+    public synchronized long getNumDelivered() {
+        return numDelivered;
+    }
+}
@@ -0,0 +1,6 @@
+package adventure.v5c.sharding;
+
+// Reference to a location that may be stored in another shard: the id of the shard and the index of the location
+// in that shard's world graph.
+public record LocationRef(int shard, int index) {
+}
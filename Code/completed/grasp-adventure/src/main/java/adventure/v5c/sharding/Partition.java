@@ -0,0 +1,14 @@
+package adventure.v5c.sharding;
+
+// Assignment of the locations of a world graph (by index) to shards.
+public record Partition(int numShards, int[] shardOf, int cutConnections) {
+    public int shardSize(int shard) {
+        int result = 0;
+        for (int s : shardOf) {
+            if (s == shard) {
+                result++;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,77 @@
+package adventure.v5c.sharding;
+
+import adventure.v5c.ActionCatalog;
+import adventure.v5c.Location;
+import adventure.v5c.Player;
+import adventure.v5c.World;
+import adventure.v5c.WorldGraph;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// The part of a world that one node is responsible for. Its graph contains the shard's own locations followed by
+// stand-ins for the locations of other shards that can be reached from them. The stand-ins have the name and
+// description of the remote location but no connections; a player that moves into one is sent to the owning shard.
+public class Shard {
+    private final int id;
+    private final World world;
+    private final int numOwnLocations;
+    private final LocationRef[] remoteRefs;
+    private final ActionCatalog actionCatalog;
+    private final List<Player> players = new ArrayList<>();
+
+    Shard(int id, World world, int numOwnLocations, LocationRef[] remoteRefs) {
+        this.id = id;
+        this.world = world;
+        this.numOwnLocations = numOwnLocations;
+        this.remoteRefs = remoteRefs;
+        this.actionCatalog = new ActionCatalog(world.graph());
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public int getNumOwnLocations() {
+        return numOwnLocations;
+    }
+
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    // The location in the shard that owns it, or null if the location is owned by this shard.
+    public LocationRef remoteReference(Location location) {
+        int index = world.graph().indexOf(location.name());
+        return index < numOwnLocations ? null : remoteRefs[index - numOwnLocations];
+    }
+
+    public void accept(Player player, int locationIndex) {
+        if (locationIndex < 0 || locationIndex >= numOwnLocations) {
+            throw new IllegalArgumentException("Location " + locationIndex + " does not belong to shard " + id);
+        }
+        player.moveToLocation(world.graph().location(locationIndex));
+        player.setActionCatalog(actionCatalog);
+        players.add(player);
+    }
+
+    // Every player takes one turn; players that leave the shard are sent to their new shard.
+    public void takeTurns(ShardTransport transport) {
+        int numRemaining = 0;
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            player.takeTurn();
+            int index = WorldGraph.indexOf(player.getLocation());
+            if (index >= numOwnLocations) {
+                transport.send(player, remoteRefs[index - numOwnLocations]);
+            } else {
+                players.set(numRemaining++, player);
+            }
+        }
+        players.subList(numRemaining, players.size()).clear();
+    }
+}
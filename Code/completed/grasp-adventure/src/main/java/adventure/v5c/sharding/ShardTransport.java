@@ -0,0 +1,12 @@
+package adventure.v5c.sharding;
+
+import adventure.v5c.Player;
+
+// Hands players over to the shard that owns the location they moved to. A transport for several machines would
+// serialize the player; the in-process transport passes the Player object on.
+public interface ShardTransport {
+    void send(Player player, LocationRef destination);
+
+    // Delivers the players that have been sent since the last call; returns their number.
+    int deliver();
+}
@@ -0,0 +1,149 @@
+package adventure.v5c.sharding;
+
+import adventure.v5c.Location;
+import adventure.v5c.Player;
+import adventure.v5c.World;
+import adventure.v5c.WorldFactory;
+import adventure.v5c.WorldGraph;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// A world that is split into shards, each of which could run on its own node. All shards run in this JVM and
+// exchange players through a transport; with the InProcessTransport, moves between shards can be tested on a single
+// machine.
+public class ShardedWorld {
+    private final Partition partition;
+    private final List<Shard> shards;
+    // Directory of all locations, as a coordinator node would keep it.
+    private final Map<String, LocationRef> directory;
+    private final ShardTransport transport;
+
+    private ShardedWorld(Partition partition, List<Shard> shards, Map<String, LocationRef> directory) {
+        this.partition = partition;
+        this.shards = List.copyOf(shards);
+        this.directory = directory;
+        this.transport = new InProcessTransport(this.shards);
+    }
+
+    // Uses fewer shards than requested if the world has fewer live locations than numShards.
+    public static ShardedWorld partition(World world, int numShards) {
+        return partition(world, new WorldPartitioner().partition(world.graph(), numShards));
+    }
+
+    public static ShardedWorld partition(World world, Partition partition) {
+        WorldGraph graph = world.graph();
+        int numLocations = graph.locationCount();
+        int[] shardOf = partition.shardOf();
+        // Indices of the locations in the graphs of their shards; own locations come first, in the original order.
+        int[] localIndex = new int[numLocations];
+        int[] numOwnLocations = new int[partition.numShards()];
+        String[] locationNames = new String[numLocations];
+        LocationRef[] refs = new LocationRef[numLocations];
+        Map<String, LocationRef> directory = new HashMap<>();
+        for (int location = 0; location < numLocations; location++) {
+            if (!graph.isRemoved(location)) {
+                localIndex[location] = numOwnLocations[shardOf[location]]++;
+                locationNames[location] = graph.location(location).name();
+                refs[location] = new LocationRef(shardOf[location], localIndex[location]);
+                directory.put(locationNames[location], refs[location]);
+            }
+        }
+        for (int shard = 0; shard < partition.numShards(); shard++) {
+            if (numOwnLocations[shard] == 0) {
+                throw new IllegalArgumentException("Shard " + shard + " has no locations");
+            }
+        }
+
+        List<Shard> shards = new ArrayList<>();
+        for (int shard = 0; shard < partition.numShards(); shard++) {
+            WorldGraph.Builder builder = new WorldGraph.Builder();
+            for (int location = 0; location < numLocations; location++) {
+                if (!graph.isRemoved(location) && shardOf[location] == shard) {
+                    builder.addLocation(locationNames[location], graph.location(location).description());
+                }
+            }
+            List<LocationRef> remoteRefs = new ArrayList<>();
+            List<Integer> remoteLocations = new ArrayList<>();
+            int[] remoteIndex = new int[numLocations];
+            for (int location = 0; location < numLocations; location++) {
+                if (graph.isRemoved(location) || shardOf[location] != shard) {
+                    continue;
+                }
+                for (int i = 0; i < graph.connectionCount(location); i++) {
+                    int target = graph.connectionTarget(location, i);
+                    // Connections to unknown locations cannot be followed and are left out.
+                    if (target == WorldGraph.NO_ID) {
+                        continue;
+                    }
+                    if (shardOf[target] != shard && remoteIndex[target] == 0) {
+                        remoteRefs.add(refs[target]);
+                        remoteLocations.add(target);
+                        remoteIndex[target] = remoteRefs.size();
+                    }
+                    builder.addConnection(
+                            locationNames[location], graph.directionName(graph.connectionDirection(location, i)),
+                            locationNames[target]);
+                }
+            }
+            for (int target : remoteLocations) {
+                builder.addLocation(locationNames[target], graph.location(target).description());
+            }
+            World shardWorld = WorldFactory.fromGraph(builder.build());
+            shards.add(new Shard(shard, shardWorld, numOwnLocations[shard], remoteRefs.toArray(LocationRef[]::new)));
+        }
+        return new ShardedWorld(partition, shards, directory);
+    }
+
+    public Partition getPartition() {
+        return partition;
+    }
+
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    public Shard getShard(int shard) {
+        return shards.get(shard);
+    }
+
+    public ShardTransport getTransport() {
+        return transport;
+    }
+
+    public LocationRef locate(String locationName) {
+        LocationRef result = directory.get(locationName);
+        if (result == null) {
+            throw new IllegalArgumentException("No such location: " + locationName);
+        }
+        return result;
+    }
+
+    public Location resolve(LocationRef ref) {
+        return shards.get(ref.shard()).getWorld().graph().location(ref.index());
+    }
+
+    public void addPlayer(Player player, String locationName) {
+        LocationRef ref = locate(locationName);
+        shards.get(ref.shard()).accept(player, ref.index());
+    }
+
+    public List<Player> getPlayers() {
+        List<Player> result = new ArrayList<>();
+        for (Shard shard : shards) {
+            result.addAll(shard.getPlayers());
+        }
+        return result;
+    }
+
+    // Every shard lets its players take a turn; afterward, players that changed shards are delivered. Returns the
+    // number of players that changed shards.
+    public int runTick() {
+        for (Shard shard : shards) {
+            shard.takeTurns(transport);
+        }
+        return transport.deliver();
+    }
+}
@@ -0,0 +1,271 @@
+package adventure.v5c.sharding;
+
+import adventure.v5c.WorldGraph;
+
+import java.util.Arrays;
+
+// Splits the locations of a world graph into shards of roughly equal size so that few connections lead from one
+// shard to another. The shards are first grown breadth first from seed locations that are far apart, which keeps
+// neighboring locations together; then locations are repeatedly moved to the shard that most of their neighbors are
+// in, as long as this reduces the number of cut connections and the shard does not grow too large.
+//
+// Removed locations are not assigned to any shard (their entry in shardOf is NO_ID). Every shard gets at least one
+// location, so there are at most as many shards as live locations.
+public class WorldPartitioner {
+    private static final int REMOVED = -2;
+
+    private final int refinementRounds;
+    private final double maxImbalance;
+
+    public WorldPartitioner() {
+        this(8, 0.05);
+    }
+
+    public WorldPartitioner(int refinementRounds, double maxImbalance) {
+        this.refinementRounds = refinementRounds;
+        this.maxImbalance = maxImbalance;
+    }
+
+    public Partition partition(WorldGraph graph, int numShards) {
+        if (numShards < 1) {
+            throw new IllegalArgumentException("Number of shards must be positive: " + numShards);
+        }
+        if (graph.liveLocationCount() == 0) {
+            throw new IllegalArgumentException("World without locations cannot be partitioned");
+        }
+        numShards = Math.min(numShards, graph.liveLocationCount());
+        int[] neighborOffsets = new int[graph.locationCount() + 1];
+        int[] neighbors = undirectedNeighbors(graph, neighborOffsets);
+        int[] shardOf = growShards(graph, numShards, neighborOffsets, neighbors);
+        refine(graph, numShards, shardOf, neighborOffsets, neighbors);
+        return new Partition(numShards, shardOf, countCutConnections(graph, shardOf));
+    }
+
+    public static int countCutConnections(WorldGraph graph, int[] shardOf) {
+        int result = 0;
+        for (int location = 0; location < graph.locationCount(); location++) {
+            for (int i = 0; i < graph.connectionCount(location); i++) {
+                int target = graph.connectionTarget(location, i);
+                if (target != WorldGraph.NO_ID && shardOf[location] != WorldGraph.NO_ID
+                        && shardOf[target] != shardOf[location]) {
+                    result++;
+                }
+            }
+        }
+        return result;
+    }
+
+    // Connections are counted in both directions, since a cut connection costs a transfer either way.
+    private static int[] undirectedNeighbors(WorldGraph graph, int[] offsets) {
+        int numLocations = graph.locationCount();
+        for (int location = 0; location < numLocations; location++) {
+            for (int i = 0; i < graph.connectionCount(location); i++) {
+                int target = graph.connectionTarget(location, i);
+                if (target != WorldGraph.NO_ID && target != location) {
+                    offsets[location + 1]++;
+                    offsets[target + 1]++;
+                }
+            }
+        }
+        for (int i = 0; i < numLocations; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        int[] result = new int[offsets[numLocations]];
+        int[] next = Arrays.copyOf(offsets, numLocations);
+        for (int location = 0; location < numLocations; location++) {
+            for (int i = 0; i < graph.connectionCount(location); i++) {
+                int target = graph.connectionTarget(location, i);
+                if (target != WorldGraph.NO_ID && target != location) {
+                    result[next[location]++] = target;
+                    result[next[target]++] = location;
+                }
+            }
+        }
+        return result;
+    }
+
+    // Seeds are chosen far apart from each other (each new seed is the location farthest from all previous ones),
+    // then all shards grow breadth first at the same pace until they are full.
+    private static int[] growShards(WorldGraph graph, int numShards, int[] offsets, int[] neighbors) {
+        int numLocations = graph.locationCount();
+        int numLive = graph.liveLocationCount();
+        int capacity = (numLive + numShards - 1) / numShards;
+        int[] shardOf = new int[numLocations];
+        Arrays.fill(shardOf, WorldGraph.NO_ID);
+        // Removed locations have no connections; they are marked as assigned while the shards grow.
+        int firstLive = WorldGraph.NO_ID;
+        for (int location = numLocations - 1; location >= 0; location--) {
+            if (graph.isRemoved(location)) {
+                shardOf[location] = REMOVED;
+            } else {
+                firstLive = location;
+            }
+        }
+        int[] sizes = new int[numShards];
+        IntQueue[] frontiers = new IntQueue[numShards];
+        int[] closestSeed = distances(firstLive, offsets, neighbors);
+        int seed = farthest(closestSeed, shardOf);
+        Arrays.fill(closestSeed, Integer.MAX_VALUE);
+        for (int shard = 0; shard < numShards && seed != WorldGraph.NO_ID; shard++) {
+            frontiers[shard] = new IntQueue();
+            shardOf[seed] = shard;
+            sizes[shard]++;
+            frontiers[shard].add(seed);
+            int[] seedDistances = distances(seed, offsets, neighbors);
+            for (int i = 0; i < numLocations; i++) {
+                closestSeed[i] = Math.min(closestSeed[i], seedDistances[i]);
+            }
+            seed = farthest(closestSeed, shardOf);
+        }
+        for (int shard = 0; shard < numShards; shard++) {
+            if (frontiers[shard] == null) {
+                frontiers[shard] = new IntQueue();
+            }
+        }
+
+        int nextUnassigned = 0;
+        int numAssigned = Arrays.stream(sizes).sum();
+        while (numAssigned < numLive) {
+            boolean isGrowing = false;
+            for (int shard = 0; shard < numShards; shard++) {
+                IntQueue frontier = frontiers[shard];
+                if (frontier.isEmpty() || sizes[shard] >= capacity) {
+                    continue;
+                }
+                int location = frontier.remove();
+                for (int n = offsets[location]; n < offsets[location + 1] && sizes[shard] < capacity; n++) {
+                    int neighbor = neighbors[n];
+                    if (shardOf[neighbor] == WorldGraph.NO_ID) {
+                        shardOf[neighbor] = shard;
+                        sizes[shard]++;
+                        numAssigned++;
+                        frontier.add(neighbor);
+                    }
+                }
+                isGrowing = true;
+            }
+            if (!isGrowing) {
+                // The remaining locations cannot be reached from any shard that has room left; the smallest shard
+                // continues from one of them.
+                while (shardOf[nextUnassigned] != WorldGraph.NO_ID) {
+                    nextUnassigned++;
+                }
+                int smallest = 0;
+                for (int shard = 1; shard < numShards; shard++) {
+                    if (sizes[shard] < sizes[smallest]) {
+                        smallest = shard;
+                    }
+                }
+                shardOf[nextUnassigned] = smallest;
+                sizes[smallest]++;
+                numAssigned++;
+                frontiers[smallest].add(nextUnassigned);
+            }
+        }
+        for (int location = 0; location < numLocations; location++) {
+            if (shardOf[location] == REMOVED) {
+                shardOf[location] = WorldGraph.NO_ID;
+            }
+        }
+        return shardOf;
+    }
+
+    private static int[] distances(int start, int[] offsets, int[] neighbors) {
+        int[] result = new int[offsets.length - 1];
+        Arrays.fill(result, Integer.MAX_VALUE);
+        IntQueue queue = new IntQueue();
+        result[start] = 0;
+        queue.add(start);
+        while (!queue.isEmpty()) {
+            int location = queue.remove();
+            for (int n = offsets[location]; n < offsets[location + 1]; n++) {
+                if (result[neighbors[n]] == Integer.MAX_VALUE) {
+                    result[neighbors[n]] = result[location] + 1;
+                    queue.add(neighbors[n]);
+                }
+            }
+        }
+        return result;
+    }
+
+    // The unassigned location with the largest distance; unreachable locations come first.
+    private static int farthest(int[] distances, int[] shardOf) {
+        int result = WorldGraph.NO_ID;
+        for (int i = 0; i < distances.length; i++) {
+            if (shardOf[i] == WorldGraph.NO_ID && (result == WorldGraph.NO_ID || distances[i] > distances[result])) {
+                result = i;
+            }
+        }
+        return result;
+    }
+
+    private void refine(WorldGraph graph, int numShards, int[] shardOf, int[] offsets, int[] neighbors) {
+        int numLocations = graph.locationCount();
+        int maxSize = (int) Math.ceil((double) graph.liveLocationCount() / numShards * (1 + maxImbalance));
+        int[] sizes = new int[numShards];
+        for (int shard : shardOf) {
+            if (shard != WorldGraph.NO_ID) {
+                sizes[shard]++;
+            }
+        }
+        int[] neighborsInShard = new int[numShards];
+        for (int round = 0; round < refinementRounds; round++) {
+            int numMoved = 0;
+            for (int location = 0; location < numLocations; location++) {
+                int current = shardOf[location];
+                if (current == WorldGraph.NO_ID) {
+                    continue;
+                }
+                for (int n = offsets[location]; n < offsets[location + 1]; n++) {
+                    neighborsInShard[shardOf[neighbors[n]]]++;
+                }
+                int best = current;
+                for (int shard = 0; shard < numShards; shard++) {
+                    if (neighborsInShard[shard] > neighborsInShard[best] && sizes[shard] < maxSize) {
+                        best = shard;
+                    }
+                }
+                for (int n = offsets[location]; n < offsets[location + 1]; n++) {
+                    neighborsInShard[shardOf[neighbors[n]]] = 0;
+                }
+                if (best != current && sizes[current] > 1) {
+                    shardOf[location] = best;
+                    sizes[current]--;
+                    sizes[best]++;
+                    numMoved++;
+                }
+            }
+            if (numMoved == 0) {
+                break;
+            }
+        }
+    }
+
+    private static class IntQueue {
+        private int[] values = new int[16];
+        private int head = 0;
+        private int tail = 0;
+
+        boolean isEmpty() {
+            return head == tail;
+        }
+
+        void add(int value) {
+            if (tail == values.length) {
+                if (head > values.length / 2) {
+                    System.arraycopy(values, head, values, 0, tail - head);
+                } else {
+                    values = Arrays.copyOf(values, values.length * 2);
+                    System.arraycopy(values, head, values, 0, tail - head);
+                }
+                tail -= head;
+                head = 0;
+            }
+            values[tail++] = value;
+        }
+
+        int remove() {
+            return values[head++];
+        }
+    }
+}
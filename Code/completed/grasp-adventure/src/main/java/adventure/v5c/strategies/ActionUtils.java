@@ -1,21 +1,47 @@
 package adventure.v5c.strategies;
 
 import adventure.v5c.Action;
+import adventure.v5c.ActionSet;
 import adventure.v5c.ActionTag;
 import adventure.v5c.actions.SkipTurnAction;
 
 import java.util.List;
+import java.util.Set;
 
 public class ActionUtils {
     public static Action selectActionWithTag(ActionTag tag, List<Action> actions) {
         if (actions.isEmpty()) {
-            return new SkipTurnAction();
+            return SkipTurnAction.INSTANCE;
         }
-        for (Action action : actions) {
+        if (actions instanceof ActionSet actionSet) {
+            Action action = actionSet.firstActionWithTag(tag);
+            return action != null ? action : actions.get(0);
+        }
+        // An indexed loop avoids allocating an iterator on every turn.
+        for (int i = 0; i < actions.size(); i++) {
+            Action action = actions.get(i);
             if (action.getTags().contains(tag)) {
                 return action;
             }
         }
         return actions.get(0);
     }
+
+    // Selects the first action that has all the given tags, e.g., AGGRESSIVE and MOVE.
+    public static Action selectActionWithAllTags(Set<ActionTag> tags, List<Action> actions) {
+        if (actions.isEmpty()) {
+            return SkipTurnAction.INSTANCE;
+        }
+        Action action = ActionSet.of(actions).firstActionWithAllTags(tags);
+        return action != null ? action : actions.get(0);
+    }
+
+    // Selects the first action that has at least one of the given tags.
+    public static Action selectActionWithAnyTag(Set<ActionTag> tags, List<Action> actions) {
+        if (actions.isEmpty()) {
+            return SkipTurnAction.INSTANCE;
+        }
+        Action action = ActionSet.of(actions).firstActionWithAnyTag(tags);
+        return action != null ? action : actions.get(0);
+    }
 }
@@ -3,30 +3,61 @@ package adventure.v5c.strategies;
 import adventure.v5c.Action;
 import adventure.v5c.Player;
 import adventure.v5c.SelectActionStrategy;
+import adventure.v5c.actions.QuitAction;
+import adventure.v5c.terminal.StreamTerminal;
+import adventure.v5c.terminal.Terminal;
 
+import java.io.IOException;
 import java.util.List;
 
+// Lets the user select an action on a terminal. The menu is written with a single call and flushed together with the
+// prompt. If the input ends or fails, the player quits.
 public class SelectActionInteractively implements SelectActionStrategy {
+    private final Terminal terminal;
+
+    public SelectActionInteractively() {
+        this(StreamTerminal.forSystem());
+    }
+
+    public SelectActionInteractively(Terminal terminal) {
+        this.terminal = terminal;
+    }
+
+    public Terminal getTerminal() {
+        return terminal;
+    }
+
     @Override
     public Action selectAction(Player player, List<Action> actions) {
-        int selectedActionIndex;
-        while (true) {
-            System.out.println("Available actions:");
-            for (int i = 0; i < actions.size(); i++) {
-                System.out.printf("%d. %s%n", i + 1, actions.get(i).getDescription());
-            }
-            System.out.print("Select action: ");
-            try {
-                selectedActionIndex = Integer.parseInt(System.console().readLine());
-                if (selectedActionIndex < 1 || selectedActionIndex > actions.size()) {
-                    System.out.println("Please enter a valid action number.");
-                    continue;
+        String menu = menu(actions);
+        try {
+            while (true) {
+                terminal.print(menu);
+                String line = terminal.readLine();
+                if (line == null) {
+                    return QuitAction.INSTANCE;
+                }
+                try {
+                    int selectedActionIndex = Integer.parseInt(line.trim());
+                    if (selectedActionIndex >= 1 && selectedActionIndex <= actions.size()) {
+                        return actions.get(selectedActionIndex - 1);
+                    }
+                    terminal.println("Please enter a valid action number.");
+                } catch (NumberFormatException e) {
+                    terminal.println("Invalid input. Please enter a number.");
                 }
-                return actions.get(selectedActionIndex - 1);
-            } catch (NumberFormatException e) {
-                System.out.println("Invalid input. Please enter a number.");
             }
+        } catch (IOException e) {
+            return QuitAction.INSTANCE;
+        }
+    }
+
+    private static String menu(List<Action> actions) {
+        StringBuilder result = new StringBuilder("Available actions:").append(System.lineSeparator());
+        for (int i = 0; i < actions.size(); i++) {
+            result.append(i + 1).append(". ").append(actions.get(i).getDescription()).append(System.lineSeparator());
         }
+        return result.append("Select action: ").toString();
     }
 
     @Override
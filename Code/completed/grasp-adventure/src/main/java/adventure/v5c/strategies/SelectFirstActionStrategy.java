@@ -11,7 +11,7 @@ public class SelectFirstActionStrategy implements SelectActionStrategy {
     @Override
     public Action selectAction(Player player, List<Action> actions) {
         if (actions.isEmpty()) {
-            return new SkipTurnAction();
+            return SkipTurnAction.INSTANCE;
         }
         return actions.get(0);
     }
@@ -0,0 +1,166 @@
+package adventure.v5c.strategies;
+
+import adventure.v5c.Action;
+import adventure.v5c.ActionTag;
+import adventure.v5c.Player;
+import adventure.v5c.SelectActionStrategy;
+import adventure.v5c.World;
+import adventure.v5c.WorldGraph;
+import adventure.v5c.actions.MoveAction;
+import adventure.v5c.actions.SkipTurnAction;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+// Selects the action that leads toward a goal location, estimated by Monte-Carlo rollouts: for every candidate action,
+// random walks through the world graph start where the action would leave the player, and the action whose walks reach
+// the goal most often, and soonest, is selected. The walks only track a location index, so neither the player nor the
+// world is changed. Rollouts are distributed over parallel workers until the time budget or the maximum number of
+// rollouts for the decision is used up.
+public class SelectLookaheadActionStrategy implements SelectActionStrategy {
+    private final WorldGraph graph;
+    private final int goalIndex;
+    private final Duration timeBudget;
+    private final int maxRollouts;
+    private final int maxDepth;
+    private final int parallelism;
+
+    public SelectLookaheadActionStrategy(World world, String goalLocationName) {
+        this(world, goalLocationName, Duration.ofMillis(10), 10_000, 50,
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    public SelectLookaheadActionStrategy(
+            World world, String goalLocationName, Duration timeBudget, int maxRollouts, int maxDepth,
+            int parallelism) {
+        this.graph = world.graph();
+        this.goalIndex = graph.indexOf(goalLocationName);
+        if (goalIndex == WorldGraph.NO_ID) {
+            throw new IllegalArgumentException("Unknown goal location: " + goalLocationName);
+        }
+        if (maxRollouts < 1 || maxDepth < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("Rollouts, depth and parallelism must be positive");
+        }
+        this.timeBudget = timeBudget;
+        this.maxRollouts = maxRollouts;
+        this.maxDepth = maxDepth;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public Action selectAction(Player player, List<Action> actions) {
+        int location = WorldGraph.indexOf(player.getLocation());
+        List<Action> candidates = candidates(actions);
+        if (candidates.isEmpty()) {
+            return actions.isEmpty() ? SkipTurnAction.INSTANCE : actions.get(0);
+        }
+        if (location == WorldGraph.NO_ID || candidates.size() == 1) {
+            return candidates.get(0);
+        }
+        int[] starts = new int[candidates.size()];
+        for (int i = 0; i < starts.length; i++) {
+            starts[i] = candidates.get(i) instanceof MoveAction move ? moveTarget(location, move) : location;
+        }
+        double[] scores = estimate(starts, player.getRandom().nextLong());
+        int best = 0;
+        for (int i = 1; i < scores.length; i++) {
+            if (scores[i] > scores[best]) {
+                best = i;
+            }
+        }
+        return candidates.get(best);
+    }
+
+    @Override
+    public boolean isInteractive() {
+        return false;
+    }
+
+    // The moves and one action that keeps the player where it is; quitting or raising errors is never the best way
+    // to reach the goal.
+    private static List<Action> candidates(List<Action> actions) {
+        List<Action> result = new ArrayList<>();
+        Action stay = null;
+        for (Action action : actions) {
+            if (action.getTags().contains(ActionTag.MOVE)) {
+                result.add(action);
+            } else if (stay == null && action.getTags().contains(ActionTag.REST)) {
+                stay = action;
+            }
+        }
+        if (stay != null) {
+            result.add(stay);
+        }
+        return result;
+    }
+
+    private int moveTarget(int location, MoveAction move) {
+        int directionId = move.getDirectionId() != WorldGraph.NO_ID
+                ? move.getDirectionId() : graph.directionId(move.getDirection());
+        return directionId == WorldGraph.NO_ID ? WorldGraph.NO_ID : graph.target(location, directionId);
+    }
+
+    // Mean reward of the rollouts for each start location.
+    private double[] estimate(int[] starts, long seed) {
+        long deadline = System.nanoTime() + timeBudget.toNanos();
+        SplittableRandom random = new SplittableRandom(seed);
+        List<SplittableRandom> workerRandoms = new ArrayList<>(parallelism);
+        for (int worker = 0; worker < parallelism; worker++) {
+            workerRandoms.add(random.split());
+        }
+        List<double[]> workerResults = IntStream.range(0, parallelism).parallel()
+                .mapToObj(worker -> runRollouts(starts, worker, workerRandoms.get(worker), deadline))
+                .toList();
+        double[] scores = new double[starts.length];
+        for (int i = 0; i < starts.length; i++) {
+            double sum = 0.0;
+            int count = 0;
+            for (double[] result : workerResults) {
+                sum += result[2 * i];
+                count += (int) result[2 * i + 1];
+            }
+            scores[i] = count == 0 ? 0.0 : sum / count;
+        }
+        return scores;
+    }
+
+    // Returns the sum of rewards and the number of rollouts for every start, interleaved. The worker performs every
+    // parallelism-th of the maxRollouts rollouts.
+    double[] runRollouts(int[] starts, int worker, SplittableRandom random, long deadline) {
+        double[] result = new double[2 * starts.length];
+        // Every worker cycles through all candidates, starting at a different one, so that each candidate gets a fair
+        // share if the time runs out, whatever the number of workers and candidates. Each worker completes one round
+        // over the candidates before it checks the time.
+        int round = 0;
+        for (int n = worker; n < maxRollouts; n += parallelism, round++) {
+            if (round >= starts.length && System.nanoTime() > deadline) {
+                break;
+            }
+            int candidate = (worker + round) % starts.length;
+            result[2 * candidate] += rollout(starts[candidate], random);
+            result[2 * candidate + 1]++;
+        }
+        return result;
+    }
+
+    // The candidate action itself is the first step of the rollout. Reaching the goal earlier gives a higher reward.
+    private double rollout(int location, SplittableRandom random) {
+        for (int step = 1; step <= maxDepth; step++) {
+            if (location == WorldGraph.NO_ID) {
+                return 0.0;
+            }
+            if (location == goalIndex) {
+                return 1.0 - (step - 1) / (double) maxDepth;
+            }
+            int numConnections = graph.connectionCount(location);
+            if (numConnections == 0) {
+                return 0.0;
+            }
+            location = graph.connectionTarget(location, random.nextInt(numConnections));
+        }
+        return 0.0;
+    }
+}
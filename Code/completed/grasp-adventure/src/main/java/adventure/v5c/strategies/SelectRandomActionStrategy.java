@@ -3,17 +3,48 @@ package adventure.v5c.strategies;
 import adventure.v5c.Action;
 import adventure.v5c.Player;
 import adventure.v5c.SelectActionStrategy;
+import adventure.v5c.actions.SkipTurnAction;
 
 import java.util.List;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
 
+// Selects one of the possible actions uniformly at random. By default, the random generator of the player is used,
+// so that players that take their turns in parallel do not share a generator and a simulation can be replayed from
+// its seed. A strategy that is only used by a single player can also be given its own generator; such a strategy
+// cannot be used in a TurnEngine.
 public class SelectRandomActionStrategy implements SelectActionStrategy {
+    private final RandomGenerator random;
+
+    public SelectRandomActionStrategy() {
+        this.random = null;
+    }
+
+    public SelectRandomActionStrategy(RandomGenerator random) {
+        this.random = random;
+    }
+
+    // E.g., withSeed("L64X128MixRandom", 42)
+    public static SelectRandomActionStrategy withSeed(String algorithm, long seed) {
+        return new SelectRandomActionStrategy(RandomGeneratorFactory.of(algorithm).create(seed));
+    }
+
     @Override
     public Action selectAction(Player player, List<Action> actions) {
-        return actions.get((int) (Math.random() * actions.size()));
+        if (actions.isEmpty()) {
+            return SkipTurnAction.INSTANCE;
+        }
+        RandomGenerator generator = random != null ? random : player.getRandom();
+        return actions.get(generator.nextInt(actions.size()));
     }
 
     @Override
     public boolean isInteractive() {
         return false;
     }
+
+    @Override
+    public boolean usesPlayerRandom() {
+        return random == null;
+    }
 }
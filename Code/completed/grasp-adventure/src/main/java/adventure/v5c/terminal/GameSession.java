@@ -0,0 +1,47 @@
+package adventure.v5c.terminal;
+
+import adventure.v5c.Player;
+import adventure.v5c.World;
+import adventure.v5c.actions.QuitAction;
+import adventure.v5c.strategies.SelectActionInteractively;
+
+import java.io.IOException;
+
+// Lets an interactive player explore a world on a terminal until the player quits, the input ends or the maximum
+// number of turns has been played. The terminal is not closed; it belongs to whoever created the session.
+public class GameSession implements Runnable {
+    private final World world;
+    private final Terminal terminal;
+    private final int maxTurns;
+    private volatile int numTurns = 0;
+
+    public GameSession(World world, Terminal terminal, int maxTurns) {
+        this.world = world;
+        this.terminal = terminal;
+        this.maxTurns = maxTurns;
+    }
+
+    @Override
+    public void run() {
+        Player player = new Player("Player", world.getLocationByName(world.initialLocationName()));
+        player.setStrategy(new SelectActionInteractively(terminal));
+        boolean[] hasQuit = {false};
+        player.setTurnObserver((p, action) -> hasQuit[0] = action instanceof QuitAction);
+        try {
+            while (!hasQuit[0] && numTurns < maxTurns) {
+                terminal.println(player.getLocation().name());
+                terminal.println("    " + player.getLocation().description());
+                player.takeTurn();
+                numTurns++;
+            }
+            terminal.println("Goodbye!");
+            terminal.flush();
+        } catch (IOException e) {
+            // The connection was lost; there is nobody left to report the error to.
+        }
+    }
+
+    public int getNumTurns() {
+        return numTurns;
+    }
+}
@@ -0,0 +1,54 @@
+package adventure.v5c.terminal;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+// Terminal with predefined input lines that records its output, e.g., for tests. When all lines have been read, the
+// input has ended.
+public class InMemoryTerminal implements Terminal {
+    private final Deque<String> input;
+    private final StringBuilder output = new StringBuilder();
+    private int numPrints = 0;
+    private boolean isClosed = false;
+
+    public InMemoryTerminal(String... inputLines) {
+        this.input = new ArrayDeque<>(Arrays.asList(inputLines));
+    }
+
+    public synchronized void addInput(String line) {
+        input.addLast(line);
+    }
+
+    @Override
+    public synchronized String readLine() {
+        return input.pollFirst();
+    }
+
+    @Override
+    public synchronized void print(String text) {
+        output.append(text);
+        numPrints++;
+    }
+
+    @Override
+    public synchronized void flush() {
+    }
+
+    @Override
+    public synchronized void close() {
+        isClosed = true;
+    }
+
+    public synchronized String getOutput() {
+        return output.toString();
+    }
+
+    public synchronized int getNumPrints() {
+        return numPrints;
+    }
+
+    public synchronized boolean isClosed() {
+        return isClosed;
+    }
+}
@@ -0,0 +1,98 @@
+package adventure.v5c.terminal;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Console;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.Socket;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+// Terminal for character streams, such as the standard streams, pipes or sockets. Reading blocks the calling thread,
+// which is cheap when the terminal is used from a virtual thread.
+public class StreamTerminal implements Terminal {
+    private final BufferedReader reader;
+    private final BufferedWriter writer;
+    private final AutoCloseable resource;
+
+    public StreamTerminal(Reader reader, Writer writer) {
+        this(reader, writer, () -> {
+            reader.close();
+            writer.close();
+        });
+    }
+
+    private StreamTerminal(Reader reader, Writer writer, AutoCloseable resource) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        this.writer = writer instanceof BufferedWriter buffered ? buffered : new BufferedWriter(writer);
+        this.resource = resource;
+    }
+
+    public StreamTerminal(InputStream in, OutputStream out) {
+        this(new InputStreamReader(in, StandardCharsets.UTF_8), new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    public static StreamTerminal forSocket(Socket socket) throws IOException {
+        return new StreamTerminal(
+                new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8),
+                new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8),
+                socket);
+    }
+
+    // The terminal for the standard streams. There is only one, created on first use: separate buffered readers on
+    // System.in would each read ahead and take input meant for the other. The standard streams are flushed but not
+    // closed when the terminal is closed.
+    public static StreamTerminal forSystem() {
+        return SystemTerminal.INSTANCE;
+    }
+
+    private static class SystemTerminal {
+        static final StreamTerminal INSTANCE = create();
+
+        // The charset of the console, if there is one; input from pipes and files is read as UTF-8.
+        private static StreamTerminal create() {
+            Console console = System.console();
+            Charset charset = console != null ? console.charset() : StandardCharsets.UTF_8;
+            return new StreamTerminal(
+                    new InputStreamReader(System.in, charset), new OutputStreamWriter(System.out, charset),
+                    () -> System.out.flush());
+        }
+    }
+
+    @Override
+    public String readLine() throws IOException {
+        writer.flush();
+        return reader.readLine();
+    }
+
+    @Override
+    public void print(String text) throws IOException {
+        writer.write(text);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            writer.flush();
+        } finally {
+            try {
+                resource.close();
+            } catch (IOException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package adventure.v5c.terminal;
+
+import java.io.IOException;
+
+// Text input and output of an interactive player. Output may be buffered until flush() is called; reading a line
+// flushes pending output first, so that prompts are always visible.
+public interface Terminal extends AutoCloseable {
+    // Returns null when the input has ended, e.g., because the connection was closed.
+    String readLine() throws IOException;
+
+    void print(String text) throws IOException;
+
+    default void println(String text) throws IOException {
+        print(text + System.lineSeparator());
+    }
+
+    void flush() throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,99 @@
+package adventure.v5c.terminal;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// Serves sessions over TCP, e.g., for interactive players connecting with telnet or netcat. Every connection is
+// handled on its own virtual thread, so a session that waits for input does not tie up a platform thread and many
+// concurrent sessions are cheap.
+public class TerminalServer implements AutoCloseable {
+    private final ServerSocket serverSocket;
+    private final Function<Terminal, Runnable> sessionFactory;
+    private final ExecutorService sessions = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<Socket> openSockets = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger numActiveSessions = new AtomicInteger();
+    private final AtomicLong numSessions = new AtomicLong();
+    private Thread acceptThread;
+
+    // Port 0 selects a free port; the chosen port is returned by getPort().
+    public TerminalServer(int port, Function<Terminal, Runnable> sessionFactory) throws IOException {
+        this.serverSocket = new ServerSocket(port, 128, InetAddress.getLoopbackAddress());
+        this.sessionFactory = sessionFactory;
+    }
+
+    public synchronized TerminalServer start() {
+        if (acceptThread == null) {
+            acceptThread = Thread.ofVirtual().name("terminal-server-accept").start(this::acceptConnections);
+        }
+        return this;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int getNumActiveSessions() {
+        return numActiveSessions.get();
+    }
+
+    public long getNumSessions() {
+        return numSessions.get();
+    }
+
+    private void acceptConnections() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                openSockets.add(socket);
+                // A connection accepted while the server is closed may have been missed by close().
+                if (serverSocket.isClosed()) {
+                    closeQuietly(socket);
+                }
+                numSessions.incrementAndGet();
+                numActiveSessions.incrementAndGet();
+                sessions.execute(() -> runSession(socket));
+            } catch (IOException e) {
+                // The server socket has been closed.
+            }
+        }
+    }
+
+    private void runSession(Socket socket) {
+        try (Terminal terminal = StreamTerminal.forSocket(socket)) {
+            sessionFactory.apply(terminal).run();
+        } catch (IOException e) {
+            // The client has disconnected.
+        } finally {
+            openSockets.remove(socket);
+            numActiveSessions.decrementAndGet();
+        }
+    }
+
+    // Stops accepting connections, closes the connections of the running sessions, so that sessions waiting for
+    // input end, and waits for the sessions to end.
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (Socket socket : openSockets) {
+            closeQuietly(socket);
+        }
+        sessions.close();
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // The connection is closed anyway.
+        }
+    }
+}
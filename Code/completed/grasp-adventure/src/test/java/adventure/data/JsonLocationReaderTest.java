@@ -0,0 +1,85 @@
+package adventure.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonLocationReaderTest {
+    static class RecordingHandler implements LocationDataHandler {
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public void handleLocation(String name, String description) {
+            events.add("location " + name + ": " + description);
+        }
+
+        @Override
+        public void handleConnection(String fromName, String direction, String toName) {
+            events.add("connection " + fromName + " " + direction + " " + toName);
+        }
+    }
+
+    private static List<String> read(String json) throws IOException {
+        InputStream inputStream = new ByteArrayInputStream(json.getBytes());
+        RecordingHandler handler = new RecordingHandler();
+        JsonLocationReader.read(inputStream, handler);
+        return handler.events;
+    }
+
+    @Test
+    void read_simpleJson() throws IOException {
+        List<String> events = read(JsonLoaderTest.simpleJsonFile);
+
+        assertEquals(List.of(
+                "location Room 1: A small room",
+                "connection Room 1 north Room 2",
+                "location Room 2: A large room",
+                "connection Room 2 south Room 1"), events);
+    }
+
+    @Test
+    void read_fieldsInAnyOrderAndUnknownFieldsSkipped() throws IOException {
+        List<String> events = read("""
+                [
+                    {
+                        "connections": {"east": "Room 2"},
+                        "objects": ["Torch", {"nested": [1, 2]}],
+                        "name": "Room 1"
+                    }
+                ]
+                """);
+
+        assertEquals(List.of("location Room 1: ", "connection Room 1 east Room 2"), events);
+    }
+
+    @Test
+    void read_emptyJson() throws IOException {
+        assertTrue(read("[]").isEmpty());
+    }
+
+    @Test
+    void read_invalidConnections() {
+        assertThrows(IllegalArgumentException.class,
+                () -> read("[{\"name\": \"Room 1\", \"connections\": [\"Room 2\"]}]"));
+    }
+
+    @Test
+    void read_locationWithoutName() {
+        assertThrows(IllegalArgumentException.class, () -> read("[{\"description\": \"A room\"}]"));
+    }
+
+    @Test
+    void readResource() {
+        RecordingHandler handler = new RecordingHandler();
+        JsonLocationReader.readResource("/json/dungeon-locations.json", handler);
+
+        assertEquals(13, handler.events.size());
+        assertEquals("location Vestibule: You are in a dimly lit room with a high ceiling", handler.events.get(0));
+    }
+}
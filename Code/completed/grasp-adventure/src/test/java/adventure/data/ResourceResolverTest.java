@@ -0,0 +1,86 @@
+package adventure.data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceResolverTest {
+    @TempDir
+    Path root;
+
+    private Path createFile(String relativePath) throws IOException {
+        Path path = root.resolve(relativePath);
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, "[]");
+        return path;
+    }
+
+    @Test
+    void find_inSearchPath() throws IOException {
+        Path expected = createFile("data/world.json");
+        createFile("a/world.json");
+        var unit = new ResourceResolver(List.of(root.resolve("missing"), root.resolve("data")), root, 4, 100);
+
+        assertEquals(expected, unit.find("world.json"));
+    }
+
+    @Test
+    void find_onClasspath() {
+        var unit = new ResourceResolver(List.of(), root, 4, 100);
+
+        Path path = unit.find("dungeon-locations.json");
+
+        assertTrue(path.endsWith(Path.of("json", "dungeon-locations.json")));
+    }
+
+    @Test
+    void find_byWalkingPrefersShallowestMatch() throws IOException {
+        createFile("a/b/c/world.json");
+        Path expected = createFile("z/y/world.json");
+        createFile(".hidden/world.json");
+        var unit = new ResourceResolver(List.of(), root, 4, 100);
+
+        assertEquals(expected, unit.find("world.json"));
+    }
+
+    @Test
+    void find_byWalkingRespectsMaximumDepth() throws IOException {
+        createFile("a/b/c/world.json");
+        var unit = new ResourceResolver(List.of(), root, 2, 100);
+
+        assertEquals(Optional.empty(), unit.findIfPresent("world.json"));
+        assertThrows(RuntimeException.class, () -> unit.find("world.json"));
+    }
+
+    @Test
+    void find_usesCacheUntilInvalidated() throws IOException {
+        Path first = createFile("b/world.json");
+        var unit = new ResourceResolver(List.of(), root, 4, 100);
+        assertEquals(first, unit.find("world.json"));
+
+        Path second = createFile("a/world.json");
+        assertEquals(first, unit.find("world.json"));
+
+        unit.invalidate(second);
+        assertEquals(second, unit.find("world.json"));
+    }
+
+    @Test
+    void find_resolvesAgainIfCachedFileWasDeleted() throws IOException {
+        Path first = createFile("a/world.json");
+        Path second = createFile("b/world.json");
+        var unit = new ResourceResolver(List.of(), root, 4, 100);
+        assertEquals(first, unit.find("world.json"));
+
+        Files.delete(first);
+
+        assertEquals(second, unit.find("world.json"));
+    }
+}
@@ -0,0 +1,76 @@
+package adventure.v3a;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionListV3aTest {
+    private final Location room1 = new Location("Room 1", "This is a room");
+    private final Location room2 = new Location("Room 2", "This is another room");
+    private final Location room3 = new Location("Room 3", "This is a third room");
+    private ConnectionList unit;
+
+    @BeforeEach
+    void setUp() {
+        unit = new ConnectionList(List.of(
+                new Connection(room1, "north", room2),
+                new Connection(room2, "south", room1)));
+    }
+
+    @Test
+    void find_ifConnectionExists() {
+        assertEquals(room2, unit.find(room1, "north").to());
+        assertEquals(room1, unit.find(room2, "south").to());
+    }
+
+    @Test
+    void find_ifConnectionDoesNotExist() {
+        assertNull(unit.find(room1, "south"));
+        assertNull(unit.find(room3, "north"));
+    }
+
+    @Test
+    void find_prefersFirstConnectionForSameDirection() {
+        unit.add(new Connection(room1, "north", room3));
+        assertEquals(room2, unit.find(room1, "north").to());
+
+        unit.add(0, new Connection(room1, "north", room3));
+        assertEquals(room3, unit.find(room1, "north").to());
+    }
+
+    @Test
+    void find_afterRemove() {
+        unit.add(new Connection(room1, "north", room3));
+
+        unit.remove(0);
+        assertEquals(room3, unit.find(room1, "north").to());
+
+        unit.removeIf(connection -> connection.from().equals(room1));
+        assertNull(unit.find(room1, "north"));
+        assertEquals(1, unit.size());
+    }
+
+    @Test
+    void find_afterSet() {
+        unit.set(0, new Connection(room1, "east", room3));
+
+        assertNull(unit.find(room1, "north"));
+        assertEquals(room3, unit.find(room1, "east").to());
+    }
+
+    @Test
+    void find_afterClear() {
+        unit.clear();
+
+        assertTrue(unit.isEmpty());
+        assertNull(unit.find(room1, "north"));
+    }
+
+    @Test
+    void equals_comparesConnections() {
+        assertEquals(List.of(new Connection(room1, "north", room2), new Connection(room2, "south", room1)), unit);
+    }
+}
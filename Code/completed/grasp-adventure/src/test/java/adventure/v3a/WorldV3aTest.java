@@ -74,6 +74,28 @@ class WorldV3aTest {
         assertThrows(IllegalArgumentException.class, () -> unit.getConnectedLocation(fromLoc, "nowhere"));
     }
 
+    @Test
+    void getConnectedLocation_afterEditingConnections() {
+        var room1 = unit.getLocationByName("Room 1");
+        var room2 = unit.getLocationByName("Room 2");
+        unit.connections().add(new Connection(room2, "up", room2));
+        unit.connections().remove(new Connection(room1, "north", room2));
+
+        assertEquals(room2, unit.getConnectedLocation(room2, "up"));
+        assertThrows(IllegalArgumentException.class, () -> unit.getConnectedLocation(room1, "north"));
+    }
+
+    @Test
+    void getConnectedLocation_forWorldWithGivenConnectionList() {
+        var room1 = unit.getLocationByName("Room 1");
+        var room2 = unit.getLocationByName("Room 2");
+        var connections = new ConnectionList(List.of(new Connection(room1, "west", room2)));
+        World world = new World(unit.locations(), "Room 1", connections);
+
+        assertEquals(room2, world.getConnectedLocation(room1, "west"));
+        assertSame(connections, world.connections());
+    }
+
     @Test
     void getConnections_forSimpleWorld() {
         List<Connection> connections = unit.connections();
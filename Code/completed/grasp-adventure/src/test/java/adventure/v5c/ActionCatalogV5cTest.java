@@ -0,0 +1,143 @@
+package adventure.v5c;
+
+import adventure.v5c.actions.*;
+import adventure.v5c.strategies.SelectAggressiveActionStrategy;
+import adventure.v5c.strategies.SelectRandomActionStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActionCatalogV5cTest {
+    private World world;
+    private ActionCatalog unit;
+
+    @BeforeEach
+    void setUp() {
+        world = WorldFactory.fromLocationData(List.of(
+                Map.of("name", "Room 1", "description", "This is a room", "connections", Map.of("north", "Room 2")),
+                Map.of("name", "Room 2", "description", "This is another room", "connections",
+                        Map.of("south", "Room 1"))));
+        unit = new ActionCatalog(world.graph());
+    }
+
+    private static List<? extends Class<?>> classes(List<Action> actions) {
+        return actions.stream().map(Object::getClass).toList();
+    }
+
+    @Test
+    void getPossibleActions_forComputerPlayer() {
+        List<Action> actions = unit.getPossibleActions(world.getLocationByName("Room 1"), false, false);
+
+        assertEquals(List.of(MoveAction.class, InvestigateAction.class, SkipTurnAction.class), classes(actions));
+        assertEquals("Move the player in direction north.", actions.get(0).getDescription());
+    }
+
+    @Test
+    void getPossibleActions_forInteractivePlayer() {
+        Location room1 = world.getLocationByName("Room 1");
+
+        assertEquals(List.of(MoveAction.class, InvestigateAction.class, SkipTurnAction.class, QuitAction.class),
+                classes(unit.getPossibleActions(room1, true, false)));
+        assertEquals(List.of(MoveAction.class, InvestigateAction.class, SkipTurnAction.class, QuitAction.class,
+                ErrorAction.class), classes(unit.getPossibleActions(room1, true, true)));
+    }
+
+    @Test
+    void getPossibleActions_returnsCachedImmutableLists() {
+        Location room1 = world.getLocationByName("Room 1");
+        List<Action> actions = unit.getPossibleActions(room1, false, false);
+
+        assertSame(actions, unit.getPossibleActions(room1, false, false));
+        assertSame(actions.get(0), unit.getPossibleActions(room1, true, false).get(0));
+        assertSame(InvestigateAction.INSTANCE, actions.get(1));
+        assertThrows(UnsupportedOperationException.class, () -> actions.add(QuitAction.INSTANCE));
+        assertThrows(UnsupportedOperationException.class, () -> actions.get(0).getTags().clear());
+    }
+
+    @Test
+    void getPossibleActions_rebuiltWhenConnectionsChange() {
+        Location room1 = world.getLocationByName("Room 1");
+        List<Action> actions = unit.getPossibleActions(room1, false, false);
+
+        room1.setConnectedLocation("east", world.getLocationByName("Room 2"));
+
+        List<Action> newActions = unit.getPossibleActions(room1, false, false);
+        assertNotSame(actions, newActions);
+        assertEquals(4, newActions.size());
+    }
+
+    @Test
+    void getPossibleActions_rejectsLocationsOfOtherWorlds() {
+        Location location = Location.fromData(Map.of("name", "Room 1"));
+
+        assertThrows(IllegalArgumentException.class, () -> unit.getPossibleActions(location, false, false));
+    }
+
+    @Test
+    void takeTurn_doesNotAllocateInSteadyState() {
+        var player = new Player("Test Player", world.getLocationByName("Room 1"));
+        player.setActionCatalog(unit);
+        var otherPlayer = new Player("Other Player", world.getLocationByName("Room 1"));
+        otherPlayer.setActionCatalog(unit);
+        otherPlayer.setStrategy(new SelectAggressiveActionStrategy());
+        player.setStrategy(new SelectRandomActionStrategy());
+        for (int i = 0; i < 10_000; i++) {
+            player.takeTurn();
+            otherPlayer.takeTurn();
+        }
+
+        var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threadBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 10_000; i++) {
+            player.takeTurn();
+            otherPlayer.takeTurn();
+        }
+        long allocated = threadBean.getCurrentThreadAllocatedBytes() - before;
+
+        assertTrue(allocated < 1024, "Allocated " + allocated + " bytes");
+    }
+
+    @Test
+    void getPossibleActions_isConsistentWhileTheGraphGrows() throws Exception {
+        WorldGraph graph = world.graph();
+        Location room1 = world.getLocationByName("Room 1");
+        AtomicBoolean done = new AtomicBoolean(false);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                readers.add(executor.submit(() -> {
+                    while (!done.get()) {
+                        int numLocations = graph.locationCount();
+                        for (int index = 0; index < numLocations; index++) {
+                            List<Action> actions = unit.getPossibleActions(graph.location(index), false, false);
+                            assertTrue(actions.size() >= 2);
+                        }
+                    }
+                }));
+            }
+            for (int i = 0; i < 200; i++) {
+                int index = graph.addLocation("Room " + (i + 3), "Yet another room");
+                room1.setConnectedLocation("door " + i, graph.location(index));
+            }
+            done.set(true);
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(201 + 2, unit.getPossibleActions(room1, false, false).size());
+    }
+}
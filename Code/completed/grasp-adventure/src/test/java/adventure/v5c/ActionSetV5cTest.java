@@ -0,0 +1,94 @@
+package adventure.v5c;
+
+import adventure.v5c.actions.HealAction;
+import adventure.v5c.actions.InvestigateAction;
+import adventure.v5c.actions.MoveAction;
+import adventure.v5c.actions.SkipTurnAction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActionSetV5cTest {
+    private final Action charge = new Action() {
+        @Override
+        public String getDescription() {
+            return "Charge.";
+        }
+
+        @Override
+        public Set<ActionTag> getTags() {
+            return EnumSet.of(ActionTag.AGGRESSIVE, ActionTag.MOVE);
+        }
+
+        @Override
+        public void perform(Player instigator) {
+        }
+    };
+    private ActionSet unit;
+
+    @BeforeEach
+    void setUp() {
+        unit = ActionSet.of(List.of(
+                new MoveAction("north"), InvestigateAction.INSTANCE, charge, HealAction.INSTANCE,
+                SkipTurnAction.INSTANCE));
+    }
+
+    @Test
+    void of_keepsActionsInOrder() {
+        assertEquals(5, unit.size());
+        assertSame(charge, unit.get(2));
+        assertSame(unit, ActionSet.of(unit));
+        assertThrows(UnsupportedOperationException.class, () -> unit.add(charge));
+    }
+
+    @Test
+    void firstActionWithTag() {
+        assertSame(unit.get(0), unit.firstActionWithTag(ActionTag.MOVE));
+        assertSame(InvestigateAction.INSTANCE, unit.firstActionWithTag(ActionTag.AGGRESSIVE));
+        assertSame(HealAction.INSTANCE, unit.firstActionWithTag(ActionTag.HELPFUL));
+        assertNull(unit.firstActionWithTag(ActionTag.QUIT));
+    }
+
+    @Test
+    void countActionsWithTag() {
+        assertEquals(2, unit.countActionsWithTag(ActionTag.MOVE));
+        assertEquals(2, unit.countActionsWithTag(ActionTag.AGGRESSIVE));
+        assertEquals(0, unit.countActionsWithTag(ActionTag.QUIT));
+        assertTrue(unit.hasActionWithTag(ActionTag.REST));
+        assertFalse(unit.hasActionWithTag(ActionTag.QUIT));
+    }
+
+    @Test
+    void firstActionWithAllTags() {
+        assertSame(charge, unit.firstActionWithAllTags(EnumSet.of(ActionTag.AGGRESSIVE, ActionTag.MOVE)));
+        assertSame(HealAction.INSTANCE, unit.firstActionWithAllTags(EnumSet.of(ActionTag.HELPFUL)));
+        assertNull(unit.firstActionWithAllTags(EnumSet.of(ActionTag.HELPFUL, ActionTag.MOVE)));
+    }
+
+    @Test
+    void firstActionWithAnyTag() {
+        assertSame(InvestigateAction.INSTANCE,
+                unit.firstActionWithAnyTag(EnumSet.of(ActionTag.HELPFUL, ActionTag.INVESTIGATE)));
+        assertNull(unit.firstActionWithAnyTag(EnumSet.of(ActionTag.QUIT, ActionTag.ERROR)));
+    }
+
+    @Test
+    void firstActionWithAllTags_forManyActions() {
+        List<Action> actions = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            actions.add(new MoveAction("direction " + i));
+        }
+        actions.add(charge);
+        ActionSet unit = ActionSet.of(actions);
+
+        assertSame(charge, unit.firstActionWithAllTags(EnumSet.of(ActionTag.AGGRESSIVE, ActionTag.MOVE)));
+        assertSame(charge, unit.firstActionWithTag(ActionTag.AGGRESSIVE));
+        assertEquals(151, unit.countActionsWithTag(ActionTag.MOVE));
+    }
+}
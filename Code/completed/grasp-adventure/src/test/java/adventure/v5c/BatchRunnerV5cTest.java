@@ -0,0 +1,85 @@
+package adventure.v5c;
+
+import adventure.v5c.strategies.SelectActionInteractively;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchRunnerV5cTest {
+    private World world;
+
+    @BeforeEach
+    void setUp() {
+        world = WorldFactory.fromJsonResource("/json/dungeon-locations.json");
+    }
+
+    @Test
+    void run_reportsMeasurements() {
+        var unit = new BatchRunner(world, BatchRunner.strategyByName("random"), 42);
+
+        BatchResult result = unit.run(10, 100, 10);
+
+        assertEquals(1000, result.totalTurns());
+        assertTrue(result.elapsedNanos() > 0);
+        assertTrue(result.turnsPerSecond() > 0);
+        assertTrue(result.p50Nanos() <= result.p99Nanos());
+        assertTrue(result.p99Nanos() <= result.maxNanos());
+        assertTrue(result.toString().contains("turns/s"));
+    }
+
+    @Test
+    void run_leavesSystemOutAlone() {
+        PrintStream out = System.out;
+        List<PrintStream> seen = new ArrayList<>();
+        var unit = new BatchRunner(world, () -> new SelectActionStrategy() {
+            @Override
+            public Action selectAction(Player player, List<Action> actions) {
+                if (seen.isEmpty()) {
+                    seen.add(System.out);
+                }
+                return actions.get(0);
+            }
+
+            @Override
+            public boolean isInteractive() {
+                return false;
+            }
+        }, 42);
+
+        unit.run(1, 10, 0);
+
+        assertEquals(List.of(out), seen);
+    }
+
+    @Test
+    void createPlayers_isReproducible() {
+        var unit = new BatchRunner(world, BatchRunner.strategyByName("random"), 42);
+        List<Player> first = unit.createPlayers(5);
+        List<Player> second = unit.createPlayers(5);
+        for (int i = 0; i < 20; i++) {
+            first.forEach(Player::takeTurn);
+            second.forEach(Player::takeTurn);
+        }
+
+        assertEquals(
+                first.stream().map(player -> player.getLocation().name()).toList(),
+                second.stream().map(player -> player.getLocation().name()).toList());
+    }
+
+    @Test
+    void createPlayers_rejectsInteractiveStrategies() {
+        var unit = new BatchRunner(world, SelectActionInteractively::new, 42);
+
+        assertThrows(IllegalArgumentException.class, () -> unit.createPlayers(1));
+    }
+
+    @Test
+    void strategyByName_rejectsUnknownNames() {
+        assertThrows(IllegalArgumentException.class, () -> BatchRunner.strategyByName("clever"));
+    }
+}
@@ -0,0 +1,50 @@
+package adventure.v5c;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramV5cTest {
+    @Test
+    void percentile_forEmptyHistogram() {
+        var unit = new LatencyHistogram();
+
+        assertEquals(0, unit.count());
+        assertEquals(0, unit.percentile(0.5));
+    }
+
+    @Test
+    void percentile_forSmallValuesIsExact() {
+        var unit = new LatencyHistogram();
+        for (int i = 1; i <= 30; i++) {
+            unit.record(i);
+        }
+
+        assertEquals(30, unit.count());
+        assertEquals(15, unit.percentile(0.5));
+        assertEquals(30, unit.percentile(0.99));
+        assertEquals(30, unit.max());
+    }
+
+    @Test
+    void percentile_forLargeValuesIsApproximate() {
+        var unit = new LatencyHistogram();
+        for (int i = 1; i <= 100_000; i++) {
+            unit.record(i * 100L);
+        }
+
+        assertEquals(5_000_000, unit.percentile(0.5), 5_000_000 / 16.0);
+        assertEquals(9_900_000, unit.percentile(0.99), 9_900_000 / 16.0);
+        assertEquals(10_000_000, unit.percentile(1.0));
+    }
+
+    @Test
+    void record_handlesExtremeValues() {
+        var unit = new LatencyHistogram();
+        unit.record(-5);
+        unit.record(Long.MAX_VALUE);
+
+        assertEquals(0, unit.percentile(0.5));
+        assertEquals(Long.MAX_VALUE, unit.percentile(1.0));
+    }
+}
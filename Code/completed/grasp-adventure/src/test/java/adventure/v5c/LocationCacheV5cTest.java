@@ -0,0 +1,116 @@
+package adventure.v5c;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocationCacheV5cTest {
+    @TempDir
+    Path tempDir;
+    private World original;
+    private Path snapshotPath;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        original = WorldFactory.fromJsonResource("/json/dungeon-locations.json");
+        snapshotPath = tempDir.resolve("dungeon.world");
+        WorldSnapshot.write(original.graph(), snapshotPath);
+    }
+
+    @Test
+    void get_countsHitsAndMisses() {
+        var unit = new LocationCache(2);
+        var location = new Location("Room 1", "", new SmallConnectionMap());
+
+        assertSame(location, unit.get(0, index -> location));
+        assertSame(location, unit.get(0, index -> fail("Location should be cached")));
+
+        assertEquals(new CacheStatistics(1, 1, 0, 1, 2), unit.statistics());
+        assertEquals(0.5, unit.statistics().hitRate());
+    }
+
+    @Test
+    void get_evictsLeastRecentlyUsedLocation() {
+        var unit = new LocationCache(2);
+        unit.get(0, index -> new Location("Room 0", "", new SmallConnectionMap()));
+        unit.get(1, index -> new Location("Room 1", "", new SmallConnectionMap()));
+        unit.get(0, index -> fail("Location should be cached"));
+
+        unit.get(2, index -> new Location("Room 2", "", new SmallConnectionMap()));
+
+        assertEquals("Room 0", unit.get(0, index -> fail("Location should be cached")).name());
+        assertEquals("Room 1", unit.get(1, index -> new Location("Room 1", "", new SmallConnectionMap())).name());
+        assertEquals(2, unit.statistics().evictions());
+        assertEquals(2, unit.statistics().residentCount());
+    }
+
+    @Test
+    void constructor_rejectsInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new LocationCache(0));
+    }
+
+    @Test
+    void pagedWorld_keepsAtMostMaxResidentLocations() {
+        World unit = WorldFactory.fromSnapshot(snapshotPath, 3);
+
+        for (Location location : original.locations().values()) {
+            Location paged = unit.getLocationByName(location.name());
+            assertEquals(location.description(), paged.description());
+            assertEquals(location.getConnectedDirections(), paged.getConnectedDirections());
+        }
+
+        assertTrue(unit.graph().isPaged());
+        CacheStatistics statistics = unit.graph().cacheStatistics().orElseThrow();
+        assertEquals(3, statistics.residentCount());
+        assertTrue(statistics.evictions() > 0);
+        assertTrue(original.graph().cacheStatistics().isEmpty());
+    }
+
+    @Test
+    void pagedWorld_recreatesEqualLocations() {
+        World unit = WorldFactory.fromSnapshot(snapshotPath, 1);
+        Location first = unit.getLocationByName("Vestibule");
+        for (String direction : first.getConnectedDirections()) {
+            first.getConnectedLocation(direction);
+        }
+
+        Location second = unit.getLocationByName("Vestibule");
+
+        assertNotSame(first, second);
+        assertEquals(first, second);
+        assertEquals(first.hashCode(), second.hashCode());
+    }
+
+    @Test
+    void hashCode_terminatesInWorldsWithCycles() {
+        Location vestibule = original.getLocationByName("Vestibule");
+        Location next = vestibule.getConnectedLocation(vestibule.getConnectedDirections().get(0));
+
+        assertNotEquals(vestibule.hashCode(), next.hashCode());
+        assertNotEquals(vestibule, next);
+        assertEquals(vestibule.hashCode(), original.getLocationByName("Vestibule").hashCode());
+    }
+
+    @Test
+    void pagedWorld_playersMoveAsInUnpagedWorld() {
+        World unit = WorldFactory.fromSnapshot(snapshotPath, 2);
+        List<Player> expected = new BatchRunner(original, BatchRunner.strategyByName("random"), 42).createPlayers(5);
+        List<Player> actual = new BatchRunner(unit, BatchRunner.strategyByName("random"), 42).createPlayers(5);
+
+        for (int turn = 0; turn < 100; turn++) {
+            expected.forEach(Player::takeTurn);
+            actual.forEach(Player::takeTurn);
+        }
+
+        assertEquals(
+                expected.stream().map(player -> player.getLocation().name()).toList(),
+                actual.stream().map(player -> player.getLocation().name()).toList());
+        assertTrue(unit.graph().cacheStatistics().orElseThrow().requests() > 0);
+    }
+}
@@ -0,0 +1,168 @@
+package adventure.v5c;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NavigatorV5cTest {
+    private World world;
+
+    @BeforeEach
+    void setUp() {
+        // Room 0 -> Room 1 -> Room 2 -> Room 3 and a shortcut Room 0 -> Room 3; Room 4 cannot be reached.
+        world = WorldFactory.fromGraph(new WorldGraph.Builder()
+                .addLocation("Room 0", "")
+                .addLocation("Room 1", "")
+                .addLocation("Room 2", "")
+                .addLocation("Room 3", "")
+                .addLocation("Room 4", "")
+                .addConnection("Room 0", "north", "Room 1")
+                .addConnection("Room 1", "north", "Room 2")
+                .addConnection("Room 2", "east", "Room 3")
+                .addConnection("Room 0", "down", "Room 3")
+                .addConnection("Room 3", "up", "Room 0")
+                .addConnection("Room 4", "west", "Room 0")
+                .build());
+    }
+
+    private Location room(int i) {
+        return world.getLocationByName("Room " + i);
+    }
+
+    private static World randomWorld(int numLocations, int fanOut, long seed) {
+        var random = new SplittableRandom(seed);
+        var builder = new WorldGraph.Builder();
+        for (int i = 0; i < numLocations; i++) {
+            builder.addLocation("Room " + i, "");
+        }
+        for (int i = 0; i < numLocations; i++) {
+            for (int d = 0; d < fanOut; d++) {
+                builder.addConnection("Room " + i, "exit " + d, "Room " + random.nextInt(numLocations));
+            }
+        }
+        return WorldFactory.fromGraph(builder.build());
+    }
+
+    @ParameterizedTest
+    @EnumSource(Navigator.Algorithm.class)
+    void findPath_returnsShortestPath(Navigator.Algorithm algorithm) {
+        var unit = new Navigator(world, algorithm, 100);
+
+        assertEquals(Optional.of(List.of("down")), unit.findPath(room(0), room(3)));
+        assertEquals(Optional.of(List.of("north", "east", "up")), unit.findPath(room(1), room(0)));
+        assertEquals(Optional.of(List.of()), unit.findPath(room(2), room(2)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Navigator.Algorithm.class)
+    void findPath_ifTargetIsUnreachable(Navigator.Algorithm algorithm) {
+        var unit = new Navigator(world, algorithm, 100);
+
+        assertEquals(Optional.empty(), unit.findPath(room(0), room(4)));
+        assertFalse(unit.isReachable(room(0), room(4)));
+        assertEquals(Navigator.UNREACHABLE, unit.distance(room(0), room(4)));
+        assertTrue(unit.isReachable(room(4), room(2)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Navigator.Algorithm.class)
+    void findPath_agreesWithBreadthFirstDistances(Navigator.Algorithm algorithm) {
+        World world = randomWorld(300, 2, 42);
+        var unit = new Navigator(world, algorithm, 100);
+        unit.precomputeLandmarks(4);
+        var random = new SplittableRandom(7);
+
+        for (int i = 0; i < 200; i++) {
+            Location from = world.getLocationByName("Room " + random.nextInt(300));
+            Location to = world.getLocationByName("Room " + random.nextInt(300));
+            Map<String, Integer> distances = unit.distancesFrom(from);
+            Optional<List<String>> path = unit.findPath(from, to);
+
+            assertEquals(distances.getOrDefault(to.name(), Navigator.UNREACHABLE), unit.distance(from, to));
+            if (path.isPresent()) {
+                Location location = from;
+                for (String direction : path.get()) {
+                    location = location.getConnectedLocation(direction);
+                }
+                assertSame(to, location);
+            }
+        }
+        assertTrue(unit.cacheSize() <= 100);
+    }
+
+    @Test
+    void distancesFrom_containsReachableLocations() {
+        var unit = new Navigator(world);
+
+        assertEquals(Map.of("Room 0", 0, "Room 1", 1, "Room 2", 2, "Room 3", 1), unit.distancesFrom(room(0)));
+    }
+
+    @Test
+    void precomputeLandmarks() {
+        var unit = new Navigator(world, Navigator.Algorithm.A_STAR, 100);
+        unit.precomputeLandmarks(2);
+
+        assertEquals(2, unit.landmarkCount());
+        assertEquals(3, unit.distance(room(1), room(0)));
+    }
+
+    @Test
+    void precomputeLandmarks_onlyUsesReachableLocations() {
+        var unit = new Navigator(world, Navigator.Algorithm.A_STAR, 100);
+        unit.precomputeLandmarks(10);
+
+        // Room 4 cannot be reached from the initial location.
+        assertEquals(4, unit.landmarkCount());
+        assertEquals(Optional.of(List.of("north", "east", "up")), unit.findPath(room(1), room(0)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Navigator.Algorithm.class)
+    void findPath_reusesScratchArrays(Navigator.Algorithm algorithm) {
+        int numLocations = 100_000;
+        World world = randomWorld(numLocations, 2, 7);
+        var unit = new Navigator(world, algorithm, 100);
+        unit.precomputeLandmarks(2);
+        unit.findPath(world.getLocationByName("Room 0"), world.getLocationByName("Room 1"));
+
+        var threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threadBean.getCurrentThreadAllocatedBytes();
+        for (int i = 1; i <= 20; i++) {
+            unit.findPath(world.getLocationByName("Room " + i), world.getLocationByName("Room " + (i * 97)));
+        }
+        long allocated = threadBean.getCurrentThreadAllocatedBytes() - before;
+
+        assertTrue(allocated < (long) numLocations * Integer.BYTES, "Allocated " + allocated + " bytes");
+    }
+
+    @Test
+    void setConnectedLocation_invalidatesCache() {
+        var unit = new Navigator(world, Navigator.Algorithm.A_STAR, 100);
+        unit.precomputeLandmarks(2);
+        assertEquals(Optional.empty(), unit.findPath(room(0), room(4)));
+        assertEquals(1, unit.cacheSize());
+
+        room(3).setConnectedLocation("east", room(4));
+
+        assertEquals(Optional.of(List.of("down", "east")), unit.findPath(room(0), room(4)));
+        assertEquals(1, unit.cacheSize());
+        assertEquals(2, unit.landmarkCount());
+    }
+
+    @Test
+    void findPath_rejectsForeignLocations() {
+        var unit = new Navigator(world);
+        Location foreign = Location.fromData(Map.of("name", "Room 0"));
+
+        assertThrows(IllegalArgumentException.class, () -> unit.findPath(foreign, room(0)));
+    }
+}
@@ -0,0 +1,74 @@
+package adventure.v5c;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SmallConnectionMapV5cTest {
+    private final Location room1 = new Location("Room 1", "", new SmallConnectionMap());
+    private final Location room2 = new Location("Room 2", "", new SmallConnectionMap());
+    private SmallConnectionMap unit;
+
+    @BeforeEach
+    void setUp() {
+        unit = new SmallConnectionMap();
+        unit.put("north", room1);
+        unit.put("south", room2);
+    }
+
+    @Test
+    void get_returnsStoredLocations() {
+        assertEquals(2, unit.size());
+        assertSame(room1, unit.get("north"));
+        assertSame(room2, unit.get("south"));
+        assertNull(unit.get("east"));
+        assertTrue(unit.containsKey("north"));
+        assertFalse(unit.containsKey("east"));
+    }
+
+    @Test
+    void put_replacesExistingDirection() {
+        Location previous = unit.put("north", room2);
+
+        assertSame(room1, previous);
+        assertSame(room2, unit.get("north"));
+        assertEquals(2, unit.size());
+    }
+
+    @Test
+    void put_growsBeyondInitialCapacity() {
+        List<String> directions = List.of("east", "west", "up", "down", "northeast", "northwest");
+        directions.forEach(direction -> unit.put(direction, room1));
+
+        assertEquals(8, unit.size());
+        assertEquals(List.of("north", "south", "east", "west", "up", "down", "northeast", "northwest"),
+                List.copyOf(unit.keySet()));
+    }
+
+    @Test
+    void remove_keepsOrderOfOtherEntries() {
+        unit.put("east", room1);
+
+        assertSame(room2, unit.remove("south"));
+        assertNull(unit.remove("south"));
+        assertEquals(List.of("north", "east"), List.copyOf(unit.keySet()));
+    }
+
+    @Test
+    void entrySetIterator_removesEntries() {
+        unit.entrySet().removeIf(entry -> entry.getKey().equals("north"));
+
+        assertEquals(Map.of("south", room2), new HashMap<>(unit));
+    }
+
+    @Test
+    void equals_comparesWithOtherMaps() {
+        assertEquals(Map.of("north", room1, "south", room2), unit);
+        assertEquals(Map.of("north", room1, "south", room2).hashCode(), unit.hashCode());
+    }
+}
@@ -0,0 +1,104 @@
+package adventure.v5c;
+
+import adventure.v5c.strategies.SelectActionInteractively;
+import adventure.v5c.strategies.SelectRandomActionStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TurnEngineV5cTest {
+    private static final int SIZE = 20;
+    private World world;
+
+    @BeforeEach
+    void setUp() {
+        var builder = new WorldGraph.Builder();
+        for (int i = 0; i < SIZE * SIZE; i++) {
+            builder.addLocation("Room " + i, "Room number " + i);
+        }
+        for (int row = 0; row < SIZE; row++) {
+            for (int column = 0; column < SIZE; column++) {
+                int room = row * SIZE + column;
+                builder.addConnection("Room " + room, "east", "Room " + (row * SIZE + (column + 1) % SIZE));
+                builder.addConnection("Room " + room, "south", "Room " + ((row + 1) % SIZE * SIZE + column));
+            }
+        }
+        world = WorldFactory.fromGraph(builder.build());
+    }
+
+    private List<Player> createPlayers(int numPlayers) {
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < numPlayers; i++) {
+            var player = new Player("Player " + i, world.getLocationByName(world.initialLocationName()));
+            player.setStrategy(new SelectRandomActionStrategy());
+            players.add(player);
+        }
+        return players;
+    }
+
+    private List<String> simulate(long seed, int parallelism) {
+        try (var unit = new TurnEngine(createPlayers(1000), seed, parallelism)) {
+            unit.runTicks(50);
+            assertEquals(50, unit.getTick());
+            return unit.getPlayers().stream().map(player -> player.getLocation().name()).toList();
+        }
+    }
+
+    @Test
+    void runTicks_movesPlayers() {
+        List<String> locations = simulate(42, 4);
+
+        assertTrue(locations.stream().anyMatch(name -> !name.equals("Room 0")));
+    }
+
+    @Test
+    void runTicks_resultDoesNotDependOnParallelism() {
+        assertEquals(simulate(42, 1), simulate(42, 4));
+    }
+
+    @Test
+    void runTicks_withLxmGenerator() {
+        List<String> locations = new ArrayList<>();
+        for (int parallelism : new int[]{1, 4}) {
+            try (var unit = new TurnEngine(createPlayers(1000), "L64X128MixRandom", 42, parallelism)) {
+                unit.runTicks(50);
+                String result = unit.getPlayers().stream().map(player -> player.getLocation().name()).toList()
+                        .toString();
+                locations.add(result);
+            }
+        }
+        assertEquals(locations.get(0), locations.get(1));
+    }
+
+    @Test
+    void constructor_rejectsGeneratorsThatCannotBeSplit() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new TurnEngine(createPlayers(2), "Xoshiro256PlusPlus", 42, 2));
+    }
+
+    @Test
+    void runTicks_resultDependsOnSeed() {
+        assertNotEquals(simulate(1, 4), simulate(2, 4));
+    }
+
+    @Test
+    void constructor_rejectsInteractivePlayers() {
+        List<Player> players = createPlayers(2);
+        players.get(1).setStrategy(new SelectActionInteractively());
+
+        assertThrows(IllegalArgumentException.class, () -> new TurnEngine(players, 42, 2));
+    }
+
+    @Test
+    void constructor_rejectsStrategiesWithTheirOwnGenerator() {
+        List<Player> players = createPlayers(2);
+        var shared = SelectRandomActionStrategy.withSeed("L64X128MixRandom", 42);
+        players.forEach(player -> player.setStrategy(shared));
+
+        assertThrows(IllegalArgumentException.class, () -> new TurnEngine(players, 42, 2));
+    }
+}
@@ -0,0 +1,157 @@
+package adventure.v5c;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TurnLogV5cTest {
+    @TempDir
+    Path tempDir;
+    private World world;
+    private Path logPath;
+
+    @BeforeEach
+    void setUp() {
+        world = WorldFactory.fromJsonResource("/json/dungeon-locations.json");
+        logPath = tempDir.resolve("turns.log");
+    }
+
+    private List<Player> playTurns(int numPlayers, int numTurns) throws IOException {
+        List<Player> players = new BatchRunner(world, BatchRunner.strategyByName("random"), 42)
+                .createPlayers(numPlayers);
+        try (var writer = new TurnLogWriter(world, logPath)) {
+            writer.attach(players);
+            for (int turn = 0; turn < numTurns; turn++) {
+                players.forEach(Player::takeTurn);
+            }
+        }
+        return players;
+    }
+
+    private static List<String> locationNames(List<Player> players) {
+        return players.stream().map(player -> player.getLocation().name()).toList();
+    }
+
+    @Test
+    void read_returnsEntriesInOrder() throws IOException {
+        try (var writer = new TurnLogWriter(world, logPath)) {
+            writer.append(0, TurnLog.ActionType.MOVE.ordinal(), 1, 2);
+            writer.append(300, TurnLog.ActionType.SKIP_TURN.ordinal(), WorldGraph.NO_ID, 1_000_000);
+        }
+        List<List<Integer>> entries = new ArrayList<>();
+
+        long numEntries = TurnLogReplayer.read(logPath, (playerId, actionType, directionId, locationIndex) ->
+                entries.add(List.of(playerId, actionType, directionId, locationIndex)));
+
+        assertEquals(2, numEntries);
+        assertEquals(List.of(0, TurnLog.ActionType.MOVE.ordinal(), 1, 2), entries.get(0));
+        assertEquals(List.of(300, TurnLog.ActionType.SKIP_TURN.ordinal(), -1, 1_000_000), entries.get(1));
+    }
+
+    @Test
+    void writer_appendsToExistingLog() throws IOException {
+        try (var writer = new TurnLogWriter(world, logPath)) {
+            writer.append(0, 0, 0, 0);
+        }
+        try (var writer = new TurnLogWriter(world, logPath)) {
+            writer.append(1, 0, 0, 0);
+        }
+
+        assertEquals(2, TurnLogReplayer.read(logPath, (playerId, actionType, directionId, locationIndex) -> {}));
+    }
+
+    @Test
+    void writer_rejectsOtherFiles() throws IOException {
+        Files.writeString(logPath, "not a turn log");
+
+        assertThrows(IllegalArgumentException.class, () -> new TurnLogWriter(world, logPath));
+        assertThrows(IllegalArgumentException.class,
+                () -> TurnLogReplayer.read(logPath, (playerId, actionType, directionId, locationIndex) -> {}));
+    }
+
+    @Test
+    void replay_restoresPlayerLocations() throws IOException {
+        List<Player> players = playTurns(10, 50);
+        List<Player> replayed = new BatchRunner(world, BatchRunner.strategyByName("random"), 7).createPlayers(10);
+
+        long numEntries = TurnLogReplayer.replay(logPath, world, replayed);
+
+        assertEquals(500, numEntries);
+        assertEquals(locationNames(players), locationNames(replayed));
+    }
+
+    @Test
+    void replay_worksOnSnapshotOfWorld() throws IOException {
+        List<Player> players = playTurns(5, 20);
+        Path snapshotPath = tempDir.resolve("world.snapshot");
+        WorldSnapshot.write(world.graph(), snapshotPath);
+        World snapshotWorld = WorldFactory.fromSnapshot(snapshotPath);
+        List<Player> replayed = new BatchRunner(snapshotWorld, BatchRunner.strategyByName("random"), 7)
+                .createPlayers(5);
+
+        TurnLogReplayer.replay(logPath, snapshotWorld, replayed);
+
+        assertEquals(locationNames(players), locationNames(replayed));
+    }
+
+    @Test
+    void replay_rejectsMovesThatDoNotMatchTheWorld() throws IOException {
+        int start = world.graph().indexOf(world.initialLocationName());
+        try (var writer = new TurnLogWriter(world, logPath)) {
+            writer.append(0, TurnLog.ActionType.MOVE.ordinal(), 0, start);
+        }
+        List<Player> players = List.of(new Player("Test", world.getLocationByName(world.initialLocationName())));
+
+        assertThrows(IllegalStateException.class, () -> TurnLogReplayer.replay(logPath, world, players));
+    }
+
+    @Test
+    void replay_rejectsUnknownPlayers() throws IOException {
+        playTurns(3, 5);
+        List<Player> players = new BatchRunner(world, BatchRunner.strategyByName("random"), 7).createPlayers(2);
+
+        var exception = assertThrows(
+                IllegalStateException.class, () -> TurnLogReplayer.replay(logPath, world, players));
+        assertEquals("Turn log records player 2, but there are only 2 players", exception.getMessage());
+        assertThrows(IllegalStateException.class, () -> TurnLogReplayer.replayLocations(logPath, 2));
+    }
+
+    @Test
+    void replay_rejectsUnknownLocations() throws IOException {
+        try (var writer = new TurnLogWriter(world, logPath)) {
+            writer.append(0, TurnLog.ActionType.SKIP_TURN.ordinal(), WorldGraph.NO_ID, 1_000_000);
+        }
+        List<Player> players = List.of(new Player("Test", world.getLocationByName(world.initialLocationName())));
+
+        assertThrows(IllegalStateException.class, () -> TurnLogReplayer.replay(logPath, world, players));
+    }
+
+    @Test
+    void read_handlesEntriesAcrossBufferBoundaries() throws IOException {
+        int numEntries = 1_000_000;
+        try (var writer = new TurnLogWriter(world, logPath)) {
+            for (int i = 0; i < numEntries; i++) {
+                writer.append(i % 1000, i % 7, i % 5 - 1, i);
+            }
+        }
+        long[] checksum = {0};
+
+        long numRead = TurnLogReplayer.read(logPath, (playerId, actionType, directionId, locationIndex) -> {
+            checksum[0] += locationIndex;
+        });
+
+        assertEquals(numEntries, numRead);
+        assertEquals((long) numEntries * (numEntries - 1) / 2, checksum[0]);
+        assertArrayEquals(new int[] {999_000, 999_001}, Arrays.copyOf(
+                TurnLogReplayer.replayLocations(logPath, 1000), 2));
+    }
+}
@@ -0,0 +1,63 @@
+package adventure.v5c;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorldFactoryV5cTest {
+    @Test
+    void fromLocationData() {
+        List<Map<String, Object>> locationData = List.of(
+                Map.of("name", "Room 1", "description", "This is a room", "connections", Map.of("north", "Room 2")),
+                Map.of("name", "Room 2", "description", "This is another room", "connections",
+                        Map.of("south", "Room 1")));
+
+        World unit = WorldFactory.fromLocationData(locationData);
+
+        assertEquals(2, unit.locations().size());
+        assertEquals("Room 1", unit.initialLocationName());
+        assertSame(unit.getLocationByName("Room 2"), unit.getLocationByName("Room 1").getConnectedLocation("north"));
+    }
+
+    @Test
+    void fromJsonResource() {
+        World unit = WorldFactory.fromJsonResource("/json/dungeon-locations.json");
+
+        assertEquals(5, unit.locations().size());
+        assertEquals("Vestibule", unit.initialLocationName());
+        var vestibule = unit.getLocationByName("Vestibule");
+        var entranceHall = unit.getLocationByName("Entrance Hall");
+        var darkCorridor = unit.getLocationByName("Dark Corridor");
+        var treasureChamber = unit.getLocationByName("Treasure Chamber");
+
+        assertEquals(List.of("north"), vestibule.getConnectedDirections());
+        assertEquals(Set.of("west", "east", "south"), Set.copyOf(entranceHall.getConnectedDirections()));
+        assertSame(entranceHall, vestibule.getConnectedLocation("north"));
+        // The treasure chamber is referenced before it is defined in the file.
+        assertSame(treasureChamber, darkCorridor.getConnectedLocation("west"));
+        assertSame(darkCorridor, treasureChamber.getConnectedLocation("east"));
+    }
+
+    @Test
+    void fromGraph_forwardReferencesAreResolved() {
+        var builder = new WorldGraph.Builder();
+        builder.handleConnection("Room 1", "north", "Room 2");
+        builder.handleLocation("Room 2", "This is another room");
+        builder.handleLocation("Room 1", "This is a room");
+
+        World unit = WorldFactory.fromGraph(builder.build());
+
+        assertEquals("Room 2", unit.initialLocationName());
+        assertSame(unit.getLocationByName("Room 2"), unit.getLocationByName("Room 1").getConnectedLocation("north"));
+    }
+
+    @Test
+    void fromGraph_connectionFromUndefinedLocation() {
+        var builder = new WorldGraph.Builder().addLocation("Room 1", "").addConnection("Room 2", "north", "Room 1");
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+}
@@ -0,0 +1,201 @@
+package adventure.v5c;
+
+import adventure.v5c.actions.MoveAction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorldGraphV5cTest {
+    private WorldGraph unit;
+
+    @BeforeEach
+    void setUp() {
+        unit = new WorldGraph.Builder()
+                .addLocation("Room 1", "This is a room")
+                .addLocation("Room 2", "This is another room")
+                .addLocation("Room 3", "This is a third room")
+                .addConnection("Room 2", "south", "Room 1")
+                .addConnection("Room 1", "north", "Room 2")
+                .addConnection("Room 1", "east", "Room 3")
+                .build();
+    }
+
+    @Test
+    void build_internsDirectionNames() {
+        assertEquals(3, unit.directionCount());
+        int north = unit.directionId("north");
+        assertNotEquals(WorldGraph.NO_ID, north);
+        assertEquals("north", unit.directionName(north));
+        assertEquals(WorldGraph.NO_ID, unit.directionId("nowhere"));
+    }
+
+    @Test
+    void build_sharesEqualDescriptions() {
+        WorldGraph graph = new WorldGraph.Builder()
+                .addLocation("Room 1", new String("A dark room"))
+                .addLocation("Room 2", new String("A dark room"))
+                .build();
+
+        assertSame(graph.location(0).description(), graph.location(1).description());
+    }
+
+    @Test
+    void build_storesConnectionsPerLocation() {
+        assertEquals(3, unit.locationCount());
+        assertEquals(2, unit.connectionCount(0));
+        assertEquals(1, unit.connectionCount(1));
+        assertEquals(0, unit.connectionCount(2));
+        assertEquals(1, unit.target(0, unit.directionId("north")));
+        assertEquals(2, unit.target(0, unit.directionId("east")));
+        assertEquals(0, unit.target(1, unit.directionId("south")));
+        assertEquals(WorldGraph.NO_ID, unit.target(2, unit.directionId("south")));
+    }
+
+    @Test
+    void build_rejectsDuplicateNames() {
+        var builder = new WorldGraph.Builder().addLocation("Room 1", "").addLocation("Room 1", "");
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    @Test
+    void build_reportsAllProblems() {
+        var builder = new WorldGraph.Builder()
+                .addLocation("Room 1", "")
+                .addLocation("Room 1", "")
+                .addLocation("", "")
+                .addConnection("Room 1", "north", "Nowhere")
+                .addConnection("Room 2", "south", "Room 1");
+
+        var exception = assertThrows(WorldValidationException.class, builder::build);
+
+        assertEquals(List.of(
+                        WorldProblem.Kind.DANGLING_REFERENCE,
+                        WorldProblem.Kind.DANGLING_REFERENCE,
+                        WorldProblem.Kind.DUPLICATE_NAME,
+                        WorldProblem.Kind.INVALID_NAME),
+                exception.getProblems().stream().map(WorldProblem::kind).toList());
+        assertEquals(List.of(WorldGraph.NO_ID, 0, 1, 2),
+                exception.getProblems().stream().map(WorldProblem::locationIndex).toList());
+    }
+
+    @Test
+    void build_reportsUnreachableLocationsAsWarnings() {
+        var builder = new WorldGraph.Builder()
+                .addLocation("Room 1", "")
+                .addLocation("Room 2", "")
+                .addConnection("Room 2", "south", "Room 1");
+
+        WorldGraph graph = builder.build();
+
+        assertEquals(2, graph.locationCount());
+        assertEquals(List.of(new WorldProblem(WorldProblem.Kind.UNREACHABLE, 1,
+                "Location 'Room 2' cannot be reached from 'Room 1'")), builder.getWarnings());
+    }
+
+    @Test
+    void location_resolvesConnectionsByNameAndId() {
+        Location room1 = unit.location(0);
+
+        assertEquals(List.of("north", "east"), room1.getConnectedDirections());
+        assertSame(unit.location(1), room1.getConnectedLocation("north"));
+        assertSame(unit.location(1), room1.getConnectedLocation(unit.directionId("north")));
+        assertThrows(IllegalArgumentException.class, () -> room1.getConnectedLocation(unit.directionId("south")));
+    }
+
+    @Test
+    void setConnectedLocation_updatesGraph() {
+        Location room3 = unit.location(2);
+        room3.setConnectedLocation("west", unit.location(0));
+        room3.setConnectedLocation("up", unit.location(1));
+        unit.location(0).setConnectedLocation("north", room3);
+
+        assertEquals(List.of("west", "up"), room3.getConnectedDirections());
+        assertSame(unit.location(0), room3.getConnectedLocation("west"));
+        assertSame(room3, unit.location(0).getConnectedLocation("north"));
+        assertSame(unit.location(0), unit.location(1).getConnectedLocation("south"));
+    }
+
+    @Test
+    void removeConnection_updatesGraph() {
+        Location room1 = unit.location(0);
+
+        assertSame(unit.location(1), room1.connectedLocations().remove("north"));
+        assertNull(room1.connectedLocations().remove("north"));
+
+        assertEquals(List.of("east"), room1.getConnectedDirections());
+        assertEquals(1, unit.connectionCount(0));
+        assertSame(unit.location(0), unit.location(1).getConnectedLocation("south"));
+    }
+
+    @Test
+    void target_isConsistentWhileConnectionsChange() throws Exception {
+        int north = unit.directionId("north");
+        int south = unit.directionId("south");
+        AtomicBoolean done = new AtomicBoolean(false);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                readers.add(executor.submit(() -> {
+                    while (!done.get()) {
+                        assertEquals(1, unit.target(0, north));
+                        assertEquals(0, unit.target(1, south));
+                    }
+                }));
+            }
+            for (int i = 0; i < 2000; i++) {
+                unit.connect(0, "door " + i, 2);
+                unit.connect(1, "door " + i, 2);
+                unit.disconnect(0, "door " + i);
+            }
+            done.set(true);
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(2, unit.connectionCount(0));
+        assertEquals(2001, unit.connectionCount(1));
+    }
+
+    @Test
+    void removeLocation_keepsIndicesOfOtherLocations() {
+        unit.removeLocation(0);
+
+        assertTrue(unit.isRemoved(0));
+        assertEquals(3, unit.locationCount());
+        assertEquals(2, unit.liveLocationCount());
+        assertEquals(WorldGraph.NO_ID, unit.indexOf("Room 1"));
+        assertEquals(1, unit.indexOf("Room 2"));
+        assertEquals(WorldGraph.NO_ID, unit.target(1, unit.directionId("south")));
+        assertEquals(List.of("Room 2", "Room 3"), unit.locationsByName().keySet().stream().toList());
+    }
+
+    @Test
+    void setConnectedLocation_rejectsForeignLocations() {
+        Location foreign = Location.fromData(Map.of("name", "Room 1"));
+        assertThrows(IllegalArgumentException.class, () -> unit.location(2).setConnectedLocation("west", foreign));
+    }
+
+    @Test
+    void moveAction_usesDirectionId() {
+        Location room1 = unit.location(0);
+        var player = new Player("Test Player", room1);
+        int[] directionIds = room1.getConnectedDirectionIds();
+
+        player.perform(new MoveAction("east", directionIds[1]));
+
+        assertSame(unit.location(2), player.getLocation());
+    }
+}
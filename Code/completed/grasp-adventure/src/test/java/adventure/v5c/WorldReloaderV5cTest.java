@@ -0,0 +1,164 @@
+package adventure.v5c;
+
+import adventure.data.JsonLocationReader;
+import adventure.v5c.actions.MoveAction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorldReloaderV5cTest {
+    private static final String INITIAL_DATA = """
+            [
+              {"name": "Room 1", "description": "This is a room", "connections": {"north": "Room 2"}},
+              {"name": "Room 2", "description": "This is another room",
+               "connections": {"south": "Room 1", "east": "Room 3"}},
+              {"name": "Room 3", "description": "This is a third room", "connections": {"west": "Room 2"}}
+            ]
+            """;
+    private static final String CHANGED_DATA = """
+            [
+              {"name": "Room 1", "description": "This is a room", "connections": {"north": "Room 2", "up": "Room 4"}},
+              {"name": "Room 2", "description": "This is a renovated room", "connections": {"south": "Room 1"}},
+              {"name": "Room 4", "description": "This is an attic", "connections": {"down": "Room 1"}}
+            ]
+            """;
+
+    @TempDir
+    Path directory;
+    private Path file;
+    private World world;
+    private Player player1;
+    private Player player2;
+    private Player player3;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = directory.resolve("locations.json");
+        Files.writeString(file, INITIAL_DATA);
+        WorldGraph.Builder builder = new WorldGraph.Builder();
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            JsonLocationReader.read(inputStream, builder);
+        }
+        world = WorldFactory.fromGraph(builder.build());
+        player1 = new Player("Player 1", world.getLocationByName("Room 1"));
+        player2 = new Player("Player 2", world.getLocationByName("Room 2"));
+        player3 = new Player("Player 3", world.getLocationByName("Room 3"));
+    }
+
+    @Test
+    void reload_withoutChanges() throws IOException {
+        var unit = new WorldReloader(world, file, List.of(player1, player2, player3));
+        Location room2 = player2.getLocation();
+
+        ReloadResult result = unit.reload();
+
+        assertFalse(result.hasChanges());
+        assertEquals(0, result.relocatedPlayers());
+        assertSame(room2, player2.getLocation());
+    }
+
+    @Test
+    void reload_appliesChangesInPlace() throws IOException {
+        var unit = new WorldReloader(world, file, List.of(player1, player2, player3));
+        Location room1 = world.getLocationByName("Room 1");
+        Files.writeString(file, CHANGED_DATA);
+
+        ReloadResult result = unit.reload();
+
+        assertEquals(new ReloadResult(1, 1, 1, 3, 2), result);
+        assertEquals(3, world.locations().size());
+        assertEquals(List.of("Room 1", "Room 2", "Room 4"), world.locations().keySet().stream().toList());
+        assertNull(world.getLocationByName("Room 3"));
+        assertSame(room1, world.getLocationByName("Room 1"));
+        assertEquals("This is a renovated room", world.getLocationByName("Room 2").description());
+        assertEquals(List.of("south"), world.getLocationByName("Room 2").getConnectedDirections());
+        assertSame(world.getLocationByName("Room 4"), room1.getConnectedLocation("up"));
+        assertSame(room1, world.getLocationByName("Room 4").getConnectedLocation("down"));
+    }
+
+    @Test
+    void reload_rebuildsConnectionsOnce() throws IOException {
+        var unit = new WorldReloader(world, file, List.of());
+        int modificationCount = world.graph().modificationCount();
+        Files.writeString(file, CHANGED_DATA);
+
+        unit.reload();
+
+        assertEquals(modificationCount + 1, world.graph().modificationCount());
+        unit.reload();
+        assertEquals(modificationCount + 1, world.graph().modificationCount());
+    }
+
+    @Test
+    void reload_relocatesPlayers() throws IOException {
+        var unit = new WorldReloader(world, file, List.of(player1, player2, player3));
+        Location room1 = player1.getLocation();
+        Files.writeString(file, CHANGED_DATA);
+
+        unit.reload();
+
+        assertSame(room1, player1.getLocation());
+        assertSame(world.getLocationByName("Room 2"), player2.getLocation());
+        assertEquals("This is a renovated room", player2.getLocation().description());
+        assertSame(world.getLocationByName("Room 1"), player3.getLocation());
+        player1.perform(new MoveAction("up"));
+        assertEquals("Room 4", player1.getLocation().name());
+    }
+
+    @Test
+    void reload_readdsRemovedLocations() throws IOException {
+        var unit = new WorldReloader(world, file, List.of());
+        Files.writeString(file, CHANGED_DATA);
+        unit.reload();
+        Files.writeString(file, INITIAL_DATA);
+
+        ReloadResult result = unit.reload();
+
+        assertEquals(1, result.addedLocations());
+        assertEquals(1, result.removedLocations());
+        assertEquals(List.of("north"), world.getLocationByName("Room 1").getConnectedDirections());
+        assertSame(world.getLocationByName("Room 3"), world.getLocationByName("Room 2").getConnectedLocation("east"));
+    }
+
+    @Test
+    void reload_keepsSnapshotsConsistent() throws IOException {
+        var unit = new WorldReloader(world, file, List.of());
+        Files.writeString(file, CHANGED_DATA);
+        unit.reload();
+        Path snapshot = directory.resolve("world.snapshot");
+
+        WorldSnapshot.write(world.graph(), snapshot);
+        World reloaded = WorldFactory.fromSnapshot(snapshot);
+
+        assertEquals(List.of("Room 1", "Room 2", "Room 4"), reloaded.locations().keySet().stream().toList());
+        assertEquals("Room 4", reloaded.getLocationByName("Room 1").getConnectedLocation("up").name());
+    }
+
+    @Test
+    void start_watchesFile() throws IOException, InterruptedException {
+        try (var unit = new WorldReloader(world, file, List.of(player1, player2, player3))) {
+            unit.start();
+            Files.writeString(file, CHANGED_DATA);
+            for (int i = 0; i < 100 && !unit.hasPendingChanges(); i++) {
+                Thread.sleep(50);
+            }
+            assertEquals("Room 2", player2.getLocation().name());
+            assertEquals("This is another room", player2.getLocation().description());
+
+            ReloadResult result = unit.applyPendingChanges();
+
+            assertEquals(1, result.addedLocations());
+            assertEquals("This is a renovated room", player2.getLocation().description());
+            assertFalse(unit.hasPendingChanges());
+            assertEquals(ReloadResult.NO_CHANGES, unit.applyPendingChanges());
+        }
+    }
+}
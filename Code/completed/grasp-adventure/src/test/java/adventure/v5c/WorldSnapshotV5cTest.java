@@ -0,0 +1,125 @@
+package adventure.v5c;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorldSnapshotV5cTest {
+    @TempDir
+    Path tempDir;
+    private World original;
+    private Path snapshotPath;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        original = WorldFactory.fromJsonResource("/json/dungeon-locations.json");
+        snapshotPath = tempDir.resolve("dungeon.world");
+        WorldSnapshot.write(original.graph(), snapshotPath);
+    }
+
+    @Test
+    void fromSnapshot_restoresLocations() {
+        World unit = WorldFactory.fromSnapshot(snapshotPath);
+
+        assertEquals("Vestibule", unit.initialLocationName());
+        assertEquals(original.locations().keySet(), unit.locations().keySet());
+        for (Location location : original.locations().values()) {
+            Location restored = unit.getLocationByName(location.name());
+            assertEquals(location.description(), restored.description());
+            assertEquals(location.getConnectedDirections(), restored.getConnectedDirections());
+        }
+    }
+
+    @Test
+    void fromSnapshot_restoresConnections() {
+        World unit = WorldFactory.fromSnapshot(snapshotPath);
+        Location entranceHall = unit.getLocationByName("Entrance Hall");
+
+        assertSame(unit.getLocationByName("Dark Corridor"), entranceHall.getConnectedLocation("west"));
+        assertSame(unit.getLocationByName("Vestibule"), entranceHall.getConnectedLocation("south"));
+        assertSame(entranceHall, unit.getLocationByName("Vestibule").getConnectedLocation("north"));
+    }
+
+    @Test
+    void fromSnapshot_unknownLocationName() {
+        World unit = WorldFactory.fromSnapshot(snapshotPath);
+
+        assertNull(unit.getLocationByName("Kitchen"));
+        assertFalse(unit.locations().containsKey("Kitchen"));
+    }
+
+    @Test
+    void write_storesRepeatedStringsOnce() throws IOException {
+        WorldGraph graph = new WorldGraph.Builder()
+                .addLocation("Room 1", "An empty room")
+                .addLocation("Room 2", "An empty room")
+                .addConnection("Room 1", "north", "Room 2")
+                .addConnection("Room 2", "south", "Room 1")
+                .build();
+        Path path = tempDir.resolve("rooms.world");
+
+        WorldSnapshot.write(graph, path);
+        WorldGraph unit = WorldSnapshot.open(path);
+
+        assertEquals(List.of("Room 1", "Room 2"), List.of(unit.location(0).name(), unit.location(1).name()));
+        assertEquals("An empty room", unit.location(1).description());
+        // Header, 2 directions, 3 tables for 2 locations, 3 offsets, 2 x 2 edge entries, 6 string offsets.
+        int expectedInts = 7 + 2 + 3 * 2 + 3 + 4 + 6;
+        int expectedBytes = "Room 1Room 2An empty roomnorthsouth".length();
+        assertEquals(expectedInts * Integer.BYTES + expectedBytes, Files.size(path));
+    }
+
+    @Test
+    void open_sharesEqualDescriptions() throws IOException {
+        WorldGraph graph = new WorldGraph.Builder()
+                .addLocation("Room 1", "A dark room")
+                .addLocation("Room 2", "A dark room")
+                .build();
+        Path path = tempDir.resolve("rooms.world");
+        WorldSnapshot.write(graph, path);
+
+        WorldGraph unit = WorldSnapshot.open(path);
+
+        assertSame(unit.location(0).description(), unit.location(1).description());
+    }
+
+    @Test
+    void open_rejectsCorruptSnapshots() throws IOException {
+        byte[] bytes = Files.readAllBytes(snapshotPath);
+        // The last edge target precedes the string offsets and the string bytes.
+        int stringCount = ByteBuffer.wrap(bytes).getInt(20);
+        int stringBytes = ByteBuffer.wrap(bytes).getInt(24);
+        int lastTargetAt = bytes.length - stringBytes - (stringCount + 2) * Integer.BYTES;
+        ByteBuffer.wrap(bytes).putInt(lastTargetAt, original.locations().size());
+        Path path = tempDir.resolve("corrupt.world");
+        Files.write(path, bytes);
+
+        assertThrows(IllegalArgumentException.class, () -> WorldSnapshot.open(path));
+    }
+
+    @Test
+    void open_rejectsTruncatedSnapshots() throws IOException {
+        byte[] bytes = Files.readAllBytes(snapshotPath);
+        Path path = tempDir.resolve("truncated.world");
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(IllegalArgumentException.class, () -> WorldSnapshot.open(path));
+    }
+
+    @Test
+    void open_rejectsOtherFiles() throws IOException {
+        Path path = tempDir.resolve("not-a-world.json");
+        Files.writeString(path, "[]");
+
+        assertThrows(IllegalArgumentException.class, () -> WorldSnapshot.open(path));
+    }
+}
@@ -0,0 +1,172 @@
+package adventure.v5c;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorldValidatorV5cTest {
+    private static Map<String, Object> location(String name, Object connections) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("name", name);
+        result.put("description", "");
+        result.put("connections", connections);
+        return result;
+    }
+
+    private static List<WorldProblem.Kind> kinds(List<WorldProblem> problems) {
+        return problems.stream().map(WorldProblem::kind).toList();
+    }
+
+    @Test
+    void validate_acceptsValidData() {
+        List<Map<String, Object>> data = List.of(
+                location("Room 1", Map.of("north", "Room 2")),
+                location("Room 2", Map.of("south", "Room 1")));
+
+        assertEquals(List.of(), WorldValidator.validate(data, "Room 1"));
+    }
+
+    @Test
+    void validate_reportsAllProblems() {
+        List<Map<String, Object>> data = List.of(
+                location("Room 1", Map.of("north", "Room 2", "east", "Nowhere")),
+                location("Room 2", Map.of("south", "Room 1")),
+                location("Room 2", Map.of()),
+                location("Room 3", "north"),
+                location("Room 4", Map.of("west", "Room 1")),
+                location(null, Map.of()));
+
+        List<WorldProblem> problems = WorldValidator.validate(data, "Room 1");
+
+        assertEquals(List.of(
+                        WorldProblem.Kind.DANGLING_REFERENCE,
+                        WorldProblem.Kind.DUPLICATE_NAME,
+                        WorldProblem.Kind.INVALID_CONNECTIONS,
+                        WorldProblem.Kind.UNREACHABLE,
+                        WorldProblem.Kind.UNREACHABLE,
+                        WorldProblem.Kind.INVALID_NAME),
+                kinds(problems));
+        assertEquals(List.of(0, 2, 3, 3, 4, 5), problems.stream().map(WorldProblem::locationIndex).toList());
+        assertTrue(problems.get(0).message().contains("Nowhere"));
+    }
+
+    @Test
+    void validate_reportsUnknownInitialLocation() {
+        List<Map<String, Object>> data = List.of(location("Room 1", Map.of()));
+
+        assertEquals(List.of(WorldProblem.Kind.UNKNOWN_INITIAL_LOCATION),
+                kinds(WorldValidator.validate(data, "Room 2")));
+    }
+
+    @Test
+    void validate_findsUnreachableLocationsInLargeWorlds() {
+        int numLocations = 100_000;
+        List<Map<String, Object>> data = new ArrayList<>(numLocations);
+        for (int i = 0; i < numLocations; i++) {
+            // A chain in which the last location cannot be reached.
+            Object connections = i < numLocations - 2 ? Map.of("next", "Room " + (i + 1)) : Map.of();
+            data.add(location("Room " + i, connections));
+        }
+
+        List<WorldProblem> problems = WorldValidator.validate(data, "Room 0");
+
+        assertEquals(1, problems.size());
+        assertEquals(new WorldProblem(WorldProblem.Kind.UNREACHABLE, numLocations - 1,
+                "Location 'Room 99999' cannot be reached from 'Room 0'"), problems.get(0));
+    }
+
+    @Test
+    void validate_reportsInvalidDescriptions() {
+        Map<String, Object> room = location("Room 1", Map.of());
+        room.put("description", 42);
+
+        List<WorldProblem> problems = WorldValidator.validate(List.of(room), "Room 1");
+
+        assertEquals(List.of(WorldProblem.Kind.INVALID_DESCRIPTION), kinds(problems));
+    }
+
+    @Test
+    void validate_reportsDuplicateNamesWithEqualHashCodes() {
+        // "Aa" and "BB" have the same hash code.
+        List<Map<String, Object>> data = List.of(
+                location("Aa", Map.of("north", "BB")),
+                location("BB", Map.of("south", "Aa")),
+                location("BB", Map.of()));
+
+        List<WorldProblem> problems = WorldValidator.validate(data, "Aa");
+
+        assertEquals(List.of(WorldProblem.Kind.DUPLICATE_NAME), kinds(problems));
+        assertEquals(2, problems.get(0).locationIndex());
+    }
+
+    @Test
+    void check_returnsWarnings() {
+        List<Map<String, Object>> data = List.of(
+                location("Room 1", Map.of()),
+                location("Room 2", Map.of("south", "Room 1")));
+
+        List<WorldProblem> warnings = WorldValidator.check(data, "Room 1");
+
+        assertEquals(List.of(WorldProblem.Kind.UNREACHABLE), kinds(warnings));
+        assertTrue(warnings.get(0).isWarning());
+    }
+
+    @Test
+    void fromLocationData_buildsWorldsWithUnreachableLocations() {
+        List<Map<String, Object>> data = List.of(
+                location("Room 1", Map.of()),
+                location("Room 2", Map.of("south", "Room 1")));
+
+        World world = WorldFactory.fromLocationData(data);
+
+        assertSame(world.getLocationByName("Room 1"), world.getLocationByName("Room 2").getConnectedLocation("south"));
+    }
+
+    @Test
+    void fromLocationData_reportsInvalidDescriptions() {
+        Map<String, Object> room = location("Room 1", Map.of());
+        room.put("description", List.of("A room"));
+
+        var exception = assertThrows(
+                WorldValidationException.class, () -> WorldFactory.fromLocationData(List.of(room)));
+
+        assertEquals(WorldProblem.Kind.INVALID_DESCRIPTION, exception.getProblems().get(0).kind());
+    }
+
+    @Test
+    void exception_canBeSerialized() throws IOException, ClassNotFoundException {
+        var exception = new WorldValidationException(List.of(
+                new WorldProblem(WorldProblem.Kind.INVALID_NAME, 0, "Location 0 has no valid name")));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(exception);
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            var restored = (WorldValidationException) in.readObject();
+            assertEquals(exception.getProblems(), restored.getProblems());
+        }
+    }
+
+    @Test
+    void fromLocationData_throwsExceptionWithAllProblems() {
+        List<Map<String, Object>> data = List.of(
+                location("Room 1", Map.of("north", "Room 2")),
+                location("Room 3", Map.of()));
+
+        var exception = assertThrows(WorldValidationException.class, () -> WorldFactory.fromLocationData(data));
+
+        assertEquals(2, exception.getProblems().size());
+        assertTrue(exception.getMessage().startsWith("2 problems in world"));
+    }
+}
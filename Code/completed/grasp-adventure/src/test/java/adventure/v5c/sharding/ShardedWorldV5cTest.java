@@ -0,0 +1,151 @@
+package adventure.v5c.sharding;
+
+import adventure.v5c.Action;
+import adventure.v5c.Location;
+import adventure.v5c.Player;
+import adventure.v5c.SelectActionStrategy;
+import adventure.v5c.World;
+import adventure.v5c.WorldFactory;
+import adventure.v5c.WorldGraph;
+import adventure.v5c.WorldReloader;
+import adventure.v5c.actions.MoveAction;
+import adventure.v5c.strategies.SelectRandomActionStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedWorldV5cTest {
+    private World world;
+    private ShardedWorld unit;
+
+    @BeforeEach
+    void setUp() {
+        // Room 0 <-> Room 1 | Room 2 <-> Room 3, with a connection between Room 1 and Room 2.
+        world = WorldFactory.fromGraph(new WorldGraph.Builder()
+                .addLocation("Room 0", "First room")
+                .addLocation("Room 1", "Second room")
+                .addLocation("Room 2", "Third room")
+                .addLocation("Room 3", "Fourth room")
+                .addConnection("Room 0", "east", "Room 1")
+                .addConnection("Room 1", "west", "Room 0")
+                .addConnection("Room 1", "east", "Room 2")
+                .addConnection("Room 2", "west", "Room 1")
+                .addConnection("Room 2", "east", "Room 3")
+                .addConnection("Room 3", "west", "Room 2")
+                .build());
+        unit = ShardedWorld.partition(world, new Partition(2, new int[]{0, 0, 1, 1}, 2));
+    }
+
+    @Test
+    void partition_createsShardsWithRemoteReferences() {
+        Shard shard0 = unit.getShard(0);
+        Location room1 = shard0.getWorld().getLocationByName("Room 1");
+        Location remoteRoom2 = room1.getConnectedLocation("east");
+
+        assertEquals(2, shard0.getNumOwnLocations());
+        assertNull(shard0.remoteReference(room1));
+        assertEquals(new LocationRef(1, 0), shard0.remoteReference(remoteRoom2));
+        assertEquals("Third room", remoteRoom2.description());
+        assertEquals(unit.locate("Room 2"), shard0.remoteReference(remoteRoom2));
+        assertSame(unit.getShard(1).getWorld().getLocationByName("Room 2"), unit.resolve(new LocationRef(1, 0)));
+    }
+
+    @Test
+    void partition_withMoreShardsThanLocations() {
+        ShardedWorld sharded = ShardedWorld.partition(world, 10);
+
+        assertEquals(4, sharded.getShards().size());
+        for (Shard shard : sharded.getShards()) {
+            assertEquals(1, shard.getNumOwnLocations());
+        }
+    }
+
+    @Test
+    void partition_rejectsEmptyShards() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ShardedWorld.partition(world, new Partition(3, new int[]{0, 0, 1, 1}, 2)));
+    }
+
+    @Test
+    void partition_leavesOutRemovedLocations(@TempDir Path directory) throws IOException {
+        Path file = directory.resolve("locations.json");
+        Files.writeString(file, """
+                [
+                  {"name": "Room 0", "description": "First room", "connections": {"east": "Room 1"}},
+                  {"name": "Room 1", "description": "Second room", "connections": {"west": "Room 0", "east": "Room 2"}},
+                  {"name": "Room 2", "description": "Third room", "connections": {"west": "Room 1"}}
+                ]
+                """);
+        new WorldReloader(world, file, List.of()).reload();
+
+        Partition partition = new WorldPartitioner().partition(world.graph(), 3);
+        ShardedWorld sharded = ShardedWorld.partition(world, partition);
+
+        assertEquals(WorldGraph.NO_ID, partition.shardOf()[3]);
+        assertEquals(3, sharded.getShards().stream().mapToInt(Shard::getNumOwnLocations).sum());
+        assertThrows(IllegalArgumentException.class, () -> sharded.locate("Room 3"));
+    }
+
+    @Test
+    void moveAction_sendsPlayerToOtherShard() {
+        var player = new Player("Player", null);
+        unit.addPlayer(player, "Room 1");
+        player.setStrategy(new SelectActionStrategy() {
+            @Override
+            public Action selectAction(Player player, List<Action> actions) {
+                return new MoveAction("east");
+            }
+
+            @Override
+            public boolean isInteractive() {
+                return false;
+            }
+        });
+
+        int numTransferred = unit.runTick();
+
+        assertEquals(1, numTransferred);
+        assertTrue(unit.getShard(0).getPlayers().isEmpty());
+        assertEquals(1, unit.getShard(1).getPlayers().size());
+        assertSame(unit.getShard(1).getWorld().getLocationByName("Room 2"), player.getLocation());
+
+        unit.runTick();
+
+        assertEquals("Room 3", player.getLocation().name());
+        assertSame(unit.resolve(unit.locate("Room 3")), player.getLocation());
+    }
+
+    @Test
+    void runTick_keepsAllPlayers() {
+        World big = WorldFactory.fromGraph(WorldPartitionerV5cTest.grid(10));
+        ShardedWorld sharded = ShardedWorld.partition(big, 3);
+        var random = new SplittableRandom(42);
+        for (int i = 0; i < 50; i++) {
+            var player = new Player("Player " + i, null);
+            player.setStrategy(new SelectRandomActionStrategy());
+            player.setRandom(random.split());
+            sharded.addPlayer(player, "Room " + random.nextInt(100));
+        }
+
+        int numTransferred = 0;
+        for (int i = 0; i < 100; i++) {
+            numTransferred += sharded.runTick();
+        }
+
+        assertEquals(50, sharded.getPlayers().size());
+        assertTrue(numTransferred > 0);
+        for (Shard shard : sharded.getShards()) {
+            for (Player player : shard.getPlayers()) {
+                assertNull(shard.remoteReference(player.getLocation()));
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package adventure.v5c.sharding;
+
+import adventure.v5c.WorldGraph;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorldPartitionerV5cTest {
+    // Grid of size x size rooms with connections in all four directions.
+    static WorldGraph grid(int size) {
+        var builder = new WorldGraph.Builder();
+        for (int i = 0; i < size * size; i++) {
+            builder.addLocation("Room " + i, "Room number " + i);
+        }
+        for (int row = 0; row < size; row++) {
+            for (int column = 0; column < size; column++) {
+                String room = "Room " + (row * size + column);
+                if (column + 1 < size) {
+                    builder.addConnection(room, "east", "Room " + (row * size + column + 1));
+                }
+                if (column > 0) {
+                    builder.addConnection(room, "west", "Room " + (row * size + column - 1));
+                }
+                if (row + 1 < size) {
+                    builder.addConnection(room, "south", "Room " + ((row + 1) * size + column));
+                }
+                if (row > 0) {
+                    builder.addConnection(room, "north", "Room " + ((row - 1) * size + column));
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    @Test
+    void partition_createsBalancedShards() {
+        WorldGraph graph = grid(20);
+
+        Partition partition = new WorldPartitioner().partition(graph, 4);
+
+        assertEquals(4, partition.numShards());
+        int total = 0;
+        for (int shard = 0; shard < 4; shard++) {
+            assertTrue(partition.shardSize(shard) >= 90, "Shard " + shard + ": " + partition.shardSize(shard));
+            assertTrue(partition.shardSize(shard) <= 105, "Shard " + shard + ": " + partition.shardSize(shard));
+            total += partition.shardSize(shard);
+        }
+        assertEquals(400, total);
+    }
+
+    @Test
+    void partition_cutsFewConnections() {
+        WorldGraph graph = grid(20);
+        int[] roundRobin = new int[graph.locationCount()];
+        for (int i = 0; i < roundRobin.length; i++) {
+            roundRobin[i] = i % 4;
+        }
+
+        Partition partition = new WorldPartitioner().partition(graph, 4);
+
+        assertEquals(partition.cutConnections(), WorldPartitioner.countCutConnections(graph, partition.shardOf()));
+        // Cutting a 20 x 20 grid into four quadrants cuts 80 connections, into four stripes 120.
+        assertTrue(partition.cutConnections() <= 160, "Cut connections: " + partition.cutConnections());
+        assertTrue(partition.cutConnections() < WorldPartitioner.countCutConnections(graph, roundRobin) / 5);
+    }
+
+    @Test
+    void partition_withOneShard() {
+        Partition partition = new WorldPartitioner().partition(grid(5), 1);
+
+        assertEquals(25, partition.shardSize(0));
+        assertEquals(0, partition.cutConnections());
+    }
+
+    @Test
+    void partition_rejectsInvalidNumberOfShards() {
+        assertThrows(IllegalArgumentException.class, () -> new WorldPartitioner().partition(grid(2), 0));
+    }
+}
@@ -1,13 +1,16 @@
 package adventure.v5c.strategies;
 
 import adventure.v5c.Action;
+import adventure.v5c.ActionSet;
 import adventure.v5c.ActionTag;
 import adventure.v5c.actions.HealAction;
+import adventure.v5c.actions.InvestigateAction;
 import adventure.v5c.actions.MoveAction;
 import adventure.v5c.actions.SkipTurnAction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.EnumSet;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -37,4 +40,30 @@ class ActionUtilsV5cTest {
         Action action = ActionUtils.selectActionWithTag(ActionTag.AGGRESSIVE, List.of());
         assertEquals(SkipTurnAction.class, action.getClass());
     }
-}
\ No newline at end of file
+
+    @Test
+    void selectActionByTag_forActionSet() {
+        Action action = ActionUtils.selectActionWithTag(ActionTag.HELPFUL, ActionSet.of(actions));
+        assertEquals(HealAction.class, action.getClass());
+    }
+
+    @Test
+    void selectActionWithAllTags() {
+        var actions = List.of(new MoveAction("north"), new InvestigateAction(), new HealAction());
+
+        assertEquals(InvestigateAction.class, ActionUtils.selectActionWithAllTags(
+                EnumSet.of(ActionTag.AGGRESSIVE, ActionTag.INVESTIGATE), actions).getClass());
+        assertEquals(MoveAction.class, ActionUtils.selectActionWithAllTags(
+                EnumSet.of(ActionTag.AGGRESSIVE, ActionTag.MOVE), actions).getClass());
+    }
+
+    @Test
+    void selectActionWithAnyTag() {
+        var actions = List.of(new MoveAction("north"), new InvestigateAction(), new HealAction());
+
+        assertEquals(HealAction.class, ActionUtils.selectActionWithAnyTag(
+                EnumSet.of(ActionTag.HELPFUL, ActionTag.QUIT), actions).getClass());
+        assertEquals(SkipTurnAction.class, ActionUtils.selectActionWithAnyTag(
+                EnumSet.of(ActionTag.HELPFUL), List.of()).getClass());
+    }
+}
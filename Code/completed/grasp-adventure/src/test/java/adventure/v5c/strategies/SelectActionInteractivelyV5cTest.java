@@ -1,14 +1,57 @@
 package adventure.v5c.strategies;
 
+import adventure.v5c.Action;
+import adventure.v5c.Player;
+import adventure.v5c.actions.InvestigateAction;
+import adventure.v5c.actions.MoveAction;
+import adventure.v5c.actions.QuitAction;
+import adventure.v5c.terminal.InMemoryTerminal;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class SelectActionInteractivelyV5cTest {
+    private final Player player = new Player("A Player", null);
+    private final List<Action> actions = List.of(new MoveAction("north"), new InvestigateAction());
 
     @Test
     void isInteractive() {
         var unit = new SelectActionInteractively();
         assertTrue(unit.isInteractive());
     }
-}
\ No newline at end of file
+
+    @Test
+    void constructor_sharesSystemTerminal() {
+        assertSame(new SelectActionInteractively().getTerminal(), new SelectActionInteractively().getTerminal());
+    }
+
+    @Test
+    void selectAction_returnsSelectedAction() {
+        var terminal = new InMemoryTerminal("2");
+        var unit = new SelectActionInteractively(terminal);
+
+        assertSame(actions.get(1), unit.selectAction(player, actions));
+        assertEquals(1, terminal.getNumPrints());
+        assertTrue(terminal.getOutput().contains("1. Move the player in direction north."));
+        assertTrue(terminal.getOutput().endsWith("Select action: "));
+    }
+
+    @Test
+    void selectAction_asksAgainAfterInvalidInput() {
+        var terminal = new InMemoryTerminal("x", "3", "1");
+        var unit = new SelectActionInteractively(terminal);
+
+        assertSame(actions.get(0), unit.selectAction(player, actions));
+        assertTrue(terminal.getOutput().contains("Invalid input. Please enter a number."));
+        assertTrue(terminal.getOutput().contains("Please enter a valid action number."));
+    }
+
+    @Test
+    void selectAction_quitsWhenInputEnds() {
+        var unit = new SelectActionInteractively(new InMemoryTerminal());
+
+        assertInstanceOf(QuitAction.class, unit.selectAction(player, actions));
+    }
+}
@@ -0,0 +1,113 @@
+package adventure.v5c.strategies;
+
+import adventure.v5c.Player;
+import adventure.v5c.World;
+import adventure.v5c.WorldFactory;
+import adventure.v5c.WorldGraph;
+import adventure.v5c.actions.InvestigateAction;
+import adventure.v5c.actions.MoveAction;
+import adventure.v5c.actions.QuitAction;
+import adventure.v5c.actions.SkipTurnAction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SelectLookaheadActionStrategyV5cTest {
+    private static final int LENGTH = 8;
+    private World world;
+
+    // A corridor from "Room 0" to "Room 7" in which every room also has a dead end to the side.
+    @BeforeEach
+    void setUp() {
+        var builder = new WorldGraph.Builder();
+        for (int i = 0; i < LENGTH; i++) {
+            builder.addLocation("Room " + i, "A room in the corridor");
+            builder.addLocation("Closet " + i, "A dead end");
+            builder.addConnection("Room " + i, "side", "Closet " + i);
+            builder.addConnection("Closet " + i, "back", "Room " + i);
+            if (i > 0) {
+                builder.addConnection("Room " + i, "west", "Room " + (i - 1));
+                builder.addConnection("Room " + (i - 1), "east", "Room " + i);
+            }
+        }
+        world = WorldFactory.fromGraph(builder.build());
+    }
+
+    private Player createPlayer(String locationName) {
+        Player player = new Player("Test Player", world.getLocationByName(locationName));
+        player.setRandom(new SplittableRandom(42));
+        player.setStrategy(new SelectLookaheadActionStrategy(
+                world, "Room " + (LENGTH - 1), Duration.ofSeconds(1), 4_000, 30, 2));
+        return player;
+    }
+
+    @Test
+    void selectAction_movesTowardGoal() {
+        Player player = createPlayer("Room 3");
+
+        assertEquals("Move the player in direction east.",
+                player.selectAction(player.getPossibleActions()).getDescription());
+    }
+
+    @Test
+    void selectAction_reachesGoal() {
+        Player player = createPlayer("Room 0");
+
+        for (int turn = 0; turn < 2 * LENGTH; turn++) {
+            player.takeTurn();
+        }
+
+        assertEquals("Room " + (LENGTH - 1), player.getLocation().name());
+    }
+
+    @Test
+    void selectAction_staysAtGoal() {
+        Player player = createPlayer("Room " + (LENGTH - 1));
+
+        assertSame(SkipTurnAction.INSTANCE, player.selectAction(player.getPossibleActions()));
+    }
+
+    @Test
+    void selectAction_neverQuits() {
+        Player player = createPlayer("Room 0");
+        var quit = new QuitAction();
+
+        assertNotSame(quit, player.selectAction(List.of(quit, new InvestigateAction(), new MoveAction("east"))));
+        assertSame(quit, player.selectAction(List.of(quit)));
+    }
+
+    @Test
+    void runRollouts_coversAllCandidatesInEveryWorker() {
+        int parallelism = 4;
+        var unit = new SelectLookaheadActionStrategy(world, "Room 1", Duration.ZERO, 40, 5, parallelism);
+        int[] starts = {world.graph().indexOf("Room 0"), world.graph().indexOf("Room 2")};
+
+        for (int worker = 0; worker < parallelism; worker++) {
+            double[] result = unit.runRollouts(starts, worker, new SplittableRandom(worker), Long.MAX_VALUE);
+
+            assertEquals(5.0, result[1], "Rollouts of worker " + worker + " for candidate 0");
+            assertEquals(5.0, result[3], "Rollouts of worker " + worker + " for candidate 1");
+        }
+    }
+
+    @Test
+    void runRollouts_triesEveryCandidateBeforeTheDeadline() {
+        var unit = new SelectLookaheadActionStrategy(world, "Room 1", Duration.ZERO, 40, 5, 4);
+        int[] starts = {world.graph().indexOf("Room 0"), world.graph().indexOf("Room 2")};
+
+        double[] result = unit.runRollouts(starts, 2, new SplittableRandom(42), 0);
+
+        assertEquals(1.0, result[1]);
+        assertEquals(1.0, result[3]);
+    }
+
+    @Test
+    void constructor_rejectsUnknownGoal() {
+        assertThrows(IllegalArgumentException.class, () -> new SelectLookaheadActionStrategy(world, "Nowhere"));
+    }
+}
@@ -10,6 +10,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -39,6 +41,44 @@ class SelectRandomActionStrategyTest {
         assertEquals(SkipTurnAction.class, action.getClass());
     }
 
+    private List<Action> selectActions(SelectActionStrategy strategy, int numActions) {
+        return IntStream.range(0, numActions).mapToObj(i -> strategy.selectAction(player, actions)).toList();
+    }
+
+    @Test
+    void selectAction_usesRandomGeneratorOfPlayer() {
+        var strategy = new SelectRandomActionStrategy();
+
+        player.setRandom(new SplittableRandom(42));
+        List<Action> first = selectActions(strategy, 100);
+        player.setRandom(new SplittableRandom(42));
+        List<Action> second = selectActions(strategy, 100);
+
+        assertEquals(first, second);
+        assertTrue(first.containsAll(actions));
+    }
+
+    @Test
+    void selectAction_withSeededGenerator() {
+        List<Action> first = selectActions(SelectRandomActionStrategy.withSeed("L64X128MixRandom", 42), 100);
+        List<Action> second = selectActions(SelectRandomActionStrategy.withSeed("L64X128MixRandom", 42), 100);
+
+        assertEquals(first, second);
+        assertTrue(first.containsAll(actions));
+    }
+
+    @Test
+    void usesPlayerRandom_onlyWithoutOwnGenerator() {
+        assertTrue(new SelectRandomActionStrategy().usesPlayerRandom());
+        assertFalse(new SelectRandomActionStrategy(new SplittableRandom(42)).usesPlayerRandom());
+    }
+
+    @Test
+    void selectAction_withRandomStrategyIfNoActionPresent() {
+        Action action = new SelectRandomActionStrategy().selectAction(player, List.of());
+        assertEquals(SkipTurnAction.class, action.getClass());
+    }
+
     @Test
     void isInteraktive() {
         assertFalse(unit.isInteractive());
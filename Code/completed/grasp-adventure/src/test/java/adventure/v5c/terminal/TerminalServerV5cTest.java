@@ -0,0 +1,100 @@
+package adventure.v5c.terminal;
+
+import adventure.v5c.World;
+import adventure.v5c.WorldFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TerminalServerV5cTest {
+    private World world;
+
+    @BeforeEach
+    void setUp() {
+        world = WorldFactory.fromJsonResource("/json/dungeon-locations.json");
+    }
+
+    @Test
+    void gameSession_playsUntilPlayerQuits() {
+        // The actions are the moves, investigate, skip turn and quit; Entrance Hall has three exits.
+        var terminal = new InMemoryTerminal("1", "99", "abc", "6");
+        var unit = new GameSession(world, terminal, 10);
+
+        unit.run();
+
+        assertTrue(terminal.getOutput().startsWith("Vestibule"));
+        assertTrue(terminal.getOutput().contains("Entrance Hall"));
+        assertTrue(terminal.getOutput().endsWith("Goodbye!" + System.lineSeparator()));
+        assertEquals(2, unit.getNumTurns());
+    }
+
+    @Test
+    void gameSession_endsWhenInputEnds() {
+        var terminal = new InMemoryTerminal();
+        var unit = new GameSession(world, terminal, 10);
+
+        unit.run();
+
+        assertEquals(1, unit.getNumTurns());
+        assertFalse(terminal.isClosed());
+    }
+
+    @Test
+    void server_servesConcurrentSessions() throws Exception {
+        int numClients = 50;
+        try (var unit = new TerminalServer(0, terminal -> new GameSession(world, terminal, 3)).start();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<String>> transcripts = IntStream.range(0, numClients)
+                    .mapToObj(i -> clients.submit(() -> play(unit.getPort(), "1", "1", "1")))
+                    .toList();
+
+            for (Future<String> transcript : transcripts) {
+                String output = transcript.get();
+                assertTrue(output.startsWith("Vestibule"));
+                assertTrue(output.contains("Select action: "));
+                assertTrue(output.endsWith("Goodbye!"));
+            }
+            assertEquals(numClients, unit.getNumSessions());
+        }
+    }
+
+    @Test
+    void close_endsSessionsOfIdleClients() throws Exception {
+        var unit = new TerminalServer(0, terminal -> new GameSession(world, terminal, 3)).start();
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), unit.getPort());
+             var in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            assertTrue(in.readLine().startsWith("Vestibule"));
+
+            assertTimeoutPreemptively(Duration.ofSeconds(10), unit::close);
+
+            assertEquals(0, unit.getNumActiveSessions());
+        }
+    }
+
+    private static String play(int port, String... inputLines) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             var out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+             var in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            for (String line : inputLines) {
+                out.println(line);
+            }
+            return in.lines().collect(Collectors.joining(System.lineSeparator()));
+        }
+    }
+}
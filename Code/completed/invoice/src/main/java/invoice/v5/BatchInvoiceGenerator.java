@@ -0,0 +1,164 @@
+package invoice.v5;
+
+import invoice.data.Order;
+import invoice.data.Product;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+// Generates the invoices for a stream of orders on a pool of worker threads. Orders are taken from the stream in
+// chunks, and at most maxChunksInFlight chunks are generated or waiting for output at any time, so the memory needed
+// does not depend on the number of orders. Every invoice is produced by InvoiceGenerator.generateInvoice() from a
+// ProductCatalog that is built once, when the generator is created, so the output is identical to the sequential one;
+// in ORDERED mode, invoices are also passed to the sink in the order of the stream. The sink is only called from the
+// thread that calls generateInvoices().
+public class BatchInvoiceGenerator implements AutoCloseable {
+    public enum OutputOrder { ORDERED, UNORDERED }
+
+    private final ProductCatalog catalog;
+    private final ExecutorService pool;
+    private final int ordersPerChunk;
+    private final int maxChunksInFlight;
+
+    public BatchInvoiceGenerator(Map<String, Product> products) {
+        this(products, Runtime.getRuntime().availableProcessors(), 64, 4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    public BatchInvoiceGenerator(
+            Map<String, Product> products, int parallelism, int ordersPerChunk, int maxChunksInFlight) {
+        if (parallelism < 1 || ordersPerChunk < 1 || maxChunksInFlight < 1) {
+            throw new IllegalArgumentException("Parallelism, chunk size and chunks in flight must be positive");
+        }
+        this.catalog = ProductCatalog.of(products);
+        this.pool = Executors.newFixedThreadPool(parallelism);
+        this.ordersPerChunk = ordersPerChunk;
+        this.maxChunksInFlight = maxChunksInFlight;
+    }
+
+    public BatchStatistics generateInvoices(Stream<Order> orders, OutputOrder outputOrder, Consumer<String> sink) {
+        long start = System.nanoTime();
+        Statistics statistics = new Statistics(sink);
+        Iterator<Order> iterator = orders.iterator();
+        if (outputOrder == OutputOrder.ORDERED) {
+            generateOrdered(iterator, statistics);
+        } else {
+            generateUnordered(iterator, statistics);
+        }
+        return new BatchStatistics(
+                statistics.numOrders, statistics.numItems, statistics.numChars, System.nanoTime() - start);
+    }
+
+    private void generateOrdered(Iterator<Order> orders, Statistics statistics) {
+        ArrayDeque<Future<List<String>>> pending = new ArrayDeque<>();
+        try {
+            while (orders.hasNext()) {
+                if (pending.size() == maxChunksInFlight) {
+                    statistics.accept(await(pending.removeFirst()));
+                }
+                pending.addLast(pool.submit(generateChunk(nextChunk(orders, statistics))));
+            }
+            while (!pending.isEmpty()) {
+                statistics.accept(await(pending.removeFirst()));
+            }
+        } finally {
+            pending.forEach(future -> future.cancel(false));
+        }
+    }
+
+    // If generating an invoice fails, the chunks that are still in flight are left to finish; there are at most
+    // maxChunksInFlight of them.
+    private void generateUnordered(Iterator<Order> orders, Statistics statistics) {
+        CompletionService<List<String>> completed = new ExecutorCompletionService<>(pool);
+        int numInFlight = 0;
+        while (orders.hasNext()) {
+            if (numInFlight == maxChunksInFlight) {
+                statistics.accept(await(take(completed)));
+                numInFlight--;
+            }
+            completed.submit(generateChunk(nextChunk(orders, statistics)));
+            numInFlight++;
+        }
+        for (; numInFlight > 0; numInFlight--) {
+            statistics.accept(await(take(completed)));
+        }
+    }
+
+    private List<Order> nextChunk(Iterator<Order> orders, Statistics statistics) {
+        List<Order> chunk = new ArrayList<>(ordersPerChunk);
+        while (chunk.size() < ordersPerChunk && orders.hasNext()) {
+            Order order = orders.next();
+            chunk.add(order);
+            statistics.numItems += order.getItems().size();
+        }
+        return chunk;
+    }
+
+    private Callable<List<String>> generateChunk(List<Order> chunk) {
+        return () -> {
+            List<String> invoices = new ArrayList<>(chunk.size());
+            for (Order order : chunk) {
+                invoices.add(InvoiceGenerator.generateInvoice(order, catalog));
+            }
+            return invoices;
+        };
+    }
+
+    private static Future<List<String>> take(CompletionService<List<String>> completed) {
+        try {
+            return completed.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while generating invoices", e);
+        }
+    }
+
+    private static List<String> await(Future<List<String>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while generating invoices", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private static class Statistics {
+        private final Consumer<String> sink;
+        private long numOrders = 0;
+        private long numItems = 0;
+        private long numChars = 0;
+
+        Statistics(Consumer<String> sink) {
+            this.sink = sink;
+        }
+
+        void accept(List<String> invoices) {
+            for (String invoice : invoices) {
+                sink.accept(invoice);
+                numOrders++;
+                numChars += invoice.length();
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package invoice.v5;
+
+public record BatchStatistics(long numOrders, long numItems, long numChars, long elapsedNanos) {
+    public double ordersPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : numOrders * 1e9 / elapsedNanos;
+    }
+
+    public double charsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : numChars * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d orders (%d items, %d chars) in %.3f s: %.0f orders/s",
+                numOrders, numItems, numChars, elapsedNanos / 1e9, ordersPerSecond());
+    }
+}
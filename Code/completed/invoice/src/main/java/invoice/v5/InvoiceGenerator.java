@@ -6,31 +6,46 @@ import invoice.data.Item;
 import invoice.data.Order;
 import invoice.data.Product;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Map;
 
+// Discounts are in basis points, i.e., hundredths of a percent. The id is the department's index in the department
+// table, so that statistics can be kept in arrays.
 class Department {
+    int id;
     String name;
-    double discount;
+    int discount;
     int discountThreshold;
-    double VolumeDiscount;
+    int VolumeDiscount;
 
     public Department(
+            int id,
             String name,
-            double discount,
+            int discount,
             int discountThreshold,
-            double volumeDiscount) {
+            int volumeDiscount) {
+        this.id = id;
         this.name = name;
         this.discount = discount;
         this.discountThreshold = discountThreshold;
         VolumeDiscount = volumeDiscount;
     }
 
+    public int getId() {
+        return id;
+    }
+
     public String getName() {
         return name;
     }
 
-    public double getDiscount() {
+    public int getDiscount() {
         return discount;
     }
 
@@ -38,118 +53,179 @@ class Department {
         return discountThreshold;
     }
 
-    public double getVolumeDiscount() {
+    public int getVolumeDiscount() {
         return VolumeDiscount;
     }
 }
 
+// Totals (in Money units) and item counts of all departments, indexed by department id. The arrays are reused for
+// every invoice generated on the same thread.
 class DepartmentStatistics {
-    private double total = 0.0;
-    private int numItems = 0;
+    private final long[] totals;
+    private final int[] numItems;
+
+    public DepartmentStatistics(int numDepartments) {
+        totals = new long[numDepartments];
+        numItems = new int[numDepartments];
+    }
 
-    public double getTotal() {
-        return total;
+    public void clear() {
+        Arrays.fill(totals, 0);
+        Arrays.fill(numItems, 0);
     }
 
-    public void setTotal(double total) {
-        this.total = total;
+    public void add(int departmentId, int quantity, long price) {
+        numItems[departmentId] += quantity;
+        totals[departmentId] = Math.addExact(totals[departmentId], price);
     }
 
-    public int getNumItems() {
-        return numItems;
+    public long getTotal(int departmentId) {
+        return totals[departmentId];
     }
 
-    public void setNumItems(int numItems) {
-        this.numItems = numItems;
+    public int getNumItems(int departmentId) {
+        return numItems[departmentId];
     }
 }
 
 public class InvoiceGenerator {
+    // Builds a catalog for this invoice only; callers that generate many invoices should build a ProductCatalog once.
     public static String generateInvoice(Order order, Map<String, Product> products) {
-        Map<String, DepartmentStatistics> statistics = new HashMap<>();
-        statistics.put("Produce", new DepartmentStatistics());
-        statistics.put("Dairy", new DepartmentStatistics());
+        return generateInvoice(order, ProductCatalog.of(products));
+    }
 
+    public static String generateInvoice(Order order, ProductCatalog catalog) {
         StringBuilder outputString = new StringBuilder();
-        outputString.append("Order for ").append(order.getCustomerName()).append(":\n");
+        try {
+            generateInvoice(order, catalog, outputString);
+        } catch (IOException e) {
+            // Appending to a StringBuilder does not throw.
+            throw new UncheckedIOException(e);
+        }
+        return outputString.toString();
+    }
+
+    public static void generateInvoice(Order order, Map<String, Product> products, Appendable out)
+            throws IOException {
+        generateInvoice(order, ProductCatalog.of(products), out);
+    }
+
+    // Writes the invoice to out one line at a time, as the lines are computed, so that only a single line is held in
+    // memory. The output is the same as that of generateInvoice(Order, ProductCatalog); out is neither flushed nor
+    // closed.
+    public static void generateInvoice(Order order, ProductCatalog catalog, Appendable out) throws IOException {
+        DepartmentStatistics statistics = STATISTICS.get();
+        statistics.clear();
+
+        // Lines can be rendered directly into a StringBuilder; other targets receive them through a line buffer.
+        StringBuilder line = out instanceof StringBuilder outputString ? outputString : new StringBuilder();
+        line.append("Order for ").append(order.getCustomerName()).append(":\n");
+        writeLine(line, out);
 
         for (Item lineItem : order.getItems()) {
-            addLineForSingleItem(lineItem, products, statistics, outputString);
+            addLineForSingleItem(lineItem, catalog, statistics, line);
+            writeLine(line, out);
         }
-        addVolumeDiscount(statistics, outputString);
+        addVolumeDiscount(statistics, line);
+        writeLine(line, out);
+    }
 
-        return outputString.toString();
+    public static void generateInvoice(Order order, Map<String, Product> products, WritableByteChannel channel)
+            throws IOException {
+        generateInvoice(order, ProductCatalog.of(products), channel);
+    }
+
+    // Writes the invoice as UTF-8 to channel. The channel is not closed.
+    public static void generateInvoice(Order order, ProductCatalog catalog, WritableByteChannel channel)
+            throws IOException {
+        Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8);
+        generateInvoice(order, catalog, writer);
+        writer.flush();
+    }
+
+    private static void writeLine(StringBuilder line, Appendable out) throws IOException {
+        if (line != out) {
+            out.append(line);
+            line.setLength(0);
+        }
     }
 
     private static void addLineForSingleItem(
             Item lineItem,
-            Map<String, Product> products,
-            Map<String, DepartmentStatistics> statistics,
+            ProductCatalog catalog,
+            DepartmentStatistics statistics,
             StringBuilder outputString) {
         String name = lineItem.getName();
         int quantity = lineItem.getQuantity();
 
-        Product product = products.get(name);
+        ProductCatalog.Entry product = catalog.get(name);
         if (product == null) {
             throw new RuntimeException("Product not found");
         }
 
-        double itemPrice = product.getPrice();
-        String departmentName = product.getDepartment();
-        double discount;
-        double discountedPrice;
-        double price;
+        long itemPrice = product.price();
+        Department department = departments[product.departmentId()];
+        int discount;
+        long discountedPrice;
+        long price;
 
-        DepartmentStatistics departmentStatistics = statistics.get(departmentName);
-        Department department = departments.get(departmentName);
-        departmentStatistics.setNumItems(departmentStatistics.getNumItems() + quantity);
         discount = quantity >= department.getDiscountThreshold() ?
-                department.getDiscount() : 0.0;
-        discountedPrice = itemPrice * (1 - discount);
-        price = discountedPrice * quantity;
-        departmentStatistics.setTotal(departmentStatistics.getTotal() + price);
-        outputString.append(
-                String.format("  - %-12s %4d à %.2f = $%.2f", name + ":", quantity,
-                        itemPrice, price));
+                department.getDiscount() : 0;
+        discountedPrice = Money.discounted(itemPrice, discount);
+        price = Money.times(discountedPrice, quantity);
+        statistics.add(department.getId(), quantity, price);
+        InvoiceLineRenderer renderer = InvoiceLineRenderer.forDefaultLocale();
+        renderer.appendItemLine(outputString, name, quantity, itemPrice, price);
         if (discount > 0) {
-            outputString.append(
-                    String.format(" (discount: $%.2f)", itemPrice * quantity - price));
+            renderer.appendDiscount(outputString, Money.times(itemPrice, quantity) - price);
         }
         outputString.append("\n");
     }
 
     private static void addVolumeDiscount(
-            Map<String, DepartmentStatistics> departmentStatistics,
+            DepartmentStatistics statistics,
             StringBuilder outputString) {
-        double volumeDiscount = 0.0;
-        for (String name : departmentStatistics.keySet()) {
-            Department dep = departments.get(name);
-            DepartmentStatistics stats = departmentStatistics.get(name);
-            if (stats.getNumItems() >= 10) {
-                volumeDiscount += stats.getTotal() * dep.getVolumeDiscount();
+        long volumeDiscount = 0;
+        long total = 0;
+        for (Department dep : departments) {
+            long departmentTotal = statistics.getTotal(dep.getId());
+            if (statistics.getNumItems(dep.getId()) >= 10) {
+                volumeDiscount = Math.addExact(
+                        volumeDiscount, Money.basisPointsOf(departmentTotal, dep.getVolumeDiscount()));
             }
+            total = Math.addExact(total, departmentTotal);
         }
-        double total = departmentStatistics.values().stream().mapToDouble(
-                DepartmentStatistics::getTotal).sum();
 
+        InvoiceLineRenderer renderer = InvoiceLineRenderer.forDefaultLocale();
         if (volumeDiscount > 0) {
-            outputString.append(String.format("Subtotal:        $%.2f\n", total));
-            outputString.append(
-                    String.format("Volume discount: $%.2f\n", volumeDiscount));
-            outputString.append(
-                    String.format("Total:           $%.2f", total - volumeDiscount));
+            outputString.append("Subtotal:        $");
+            renderer.appendAmount(outputString, total);
+            outputString.append("\nVolume discount: $");
+            renderer.appendAmount(outputString, volumeDiscount);
+            outputString.append("\nTotal:           $");
+            renderer.appendAmount(outputString, total - volumeDiscount);
         } else {
-            outputString.append(String.format("Total: $%.2f", total));
+            outputString.append("Total: $");
+            renderer.appendAmount(outputString, total);
         }
     }
 
-    private static final Map<String, Department> departments = new HashMap<>();
-
-    static {
-        Department produce = new Department("Produce", 0.1, 4, 0.05);
-        Department dairy = new Department("Dairy", 0.05, 5, 0.1);
-        departments.put(produce.getName(), produce);
-        departments.put(dairy.getName(), dairy);
+    // Only used when a ProductCatalog is built. With only a handful of departments, a linear search is cheaper than
+    // hashing the name.
+    static int departmentId(String name) {
+        for (Department department : departments) {
+            if (department.getName().equals(name)) {
+                return department.getId();
+            }
+        }
+        throw new RuntimeException("Department not found: " + name);
     }
 
-}
\ No newline at end of file
+    private static final Department[] departments = {
+            new Department(0, "Produce", 1000, 4, 500),
+            new Department(1, "Dairy", 500, 5, 1000),
+    };
+
+    private static final ThreadLocal<DepartmentStatistics> STATISTICS =
+            ThreadLocal.withInitial(() -> new DepartmentStatistics(departments.length));
+}
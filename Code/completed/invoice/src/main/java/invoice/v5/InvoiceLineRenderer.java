@@ -0,0 +1,105 @@
+package invoice.v5;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+// Writes the lines of an invoice into a StringBuilder without String.format(), producing the same text as the
+// format strings "  - %-12s %4d à %.2f = $%.2f" and " (discount: $%.2f)" in the default format locale. Amounts are
+// in Money units, which are rounded half up to cents like %.2f does. Locales whose digits are not the ASCII digits
+// are formatted with String.format().
+class InvoiceLineRenderer {
+    private static volatile InvoiceLineRenderer cachedRenderer;
+
+    private final Locale locale;
+    private final char decimalSeparator;
+    private final boolean hasAsciiDigits;
+
+    InvoiceLineRenderer(Locale locale) {
+        DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+        this.locale = locale;
+        this.decimalSeparator = symbols.getDecimalSeparator();
+        this.hasAsciiDigits = symbols.getZeroDigit() == '0';
+    }
+
+    static InvoiceLineRenderer forDefaultLocale() {
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        InvoiceLineRenderer renderer = cachedRenderer;
+        if (renderer == null || !renderer.locale.equals(locale)) {
+            renderer = new InvoiceLineRenderer(locale);
+            cachedRenderer = renderer;
+        }
+        return renderer;
+    }
+
+    // "  - %-12s %4d à %.2f = $%.2f" with name + ":" as string argument.
+    void appendItemLine(StringBuilder out, String name, int quantity, long itemPrice, long price) {
+        appendNameAndQuantity(out, name, quantity);
+        appendAmount(out, itemPrice);
+        out.append(" = $");
+        appendAmount(out, price);
+    }
+
+    private void appendNameAndQuantity(StringBuilder out, String name, int quantity) {
+        out.append("  - ").append(name).append(':');
+        appendSpaces(out, 12 - (String.valueOf(name).length() + 1));
+        out.append(' ');
+        appendPadded(out, quantity, 4);
+        out.append(" à ");
+    }
+
+    // " (discount: $%.2f)"
+    void appendDiscount(StringBuilder out, long discount) {
+        out.append(" (discount: $");
+        appendAmount(out, discount);
+        out.append(')');
+    }
+
+    // "%.2f"
+    void appendAmount(StringBuilder out, long amount) {
+        if (!hasAsciiDigits) {
+            out.append(String.format(locale, "%.2f", BigDecimal.valueOf(amount, Money.DECIMAL_PLACES)));
+            return;
+        }
+        // Like %.2f, negative amounts that round to zero keep their sign.
+        if (amount < 0) {
+            out.append('-');
+        }
+        appendCents(out, Math.abs(Money.toCents(amount)));
+    }
+
+    private void appendCents(StringBuilder out, long cents) {
+        out.append(cents / 100).append(decimalSeparator);
+        long fraction = cents % 100;
+        if (fraction < 10) {
+            out.append('0');
+        }
+        out.append(fraction);
+    }
+
+    // "%<width>d"
+    private void appendPadded(StringBuilder out, int value, int width) {
+        if (!hasAsciiDigits) {
+            out.append(String.format(locale, "%" + width + "d", value));
+            return;
+        }
+        appendSpaces(out, width - numChars(value));
+        out.append(value);
+    }
+
+    private static int numChars(int value) {
+        long magnitude = Math.abs((long) value);
+        int result = value < 0 ? 2 : 1;
+        while (magnitude >= 10) {
+            magnitude /= 10;
+            result++;
+        }
+        return result;
+    }
+
+    private static void appendSpaces(StringBuilder out, int count) {
+        for (int i = 0; i < count; i++) {
+            out.append(' ');
+        }
+    }
+}
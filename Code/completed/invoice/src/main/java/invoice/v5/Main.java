@@ -1,13 +1,15 @@
 package invoice.v5;
 
 import invoice.data.InvoiceData;
-import invoice.data.Order;
 
 public class Main {
     public static void main(String[] args) {
-        for (Order order : InvoiceData.orders) {
-            System.out.println(InvoiceGenerator.generateInvoice(order, InvoiceData.products));
-            System.out.println("=========================================");
+        try (var generator = new BatchInvoiceGenerator(InvoiceData.products)) {
+            generator.generateInvoices(
+                    InvoiceData.orders.stream(), BatchInvoiceGenerator.OutputOrder.ORDERED, invoice -> {
+                        System.out.println(invoice);
+                        System.out.println("=========================================");
+                    });
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package invoice.v5;
+
+// Fixed-point arithmetic for money amounts that are stored as longs in millionths of a dollar. Prices are whole cents
+// and discounts are whole basis points, so discounted prices are exact; only taking basis points of a sum, as for the
+// volume discount, rounds, and it rounds half up to the millionth. Amounts are rounded to cents only when they are
+// printed. Overflow throws an ArithmeticException instead of producing wrong totals.
+final class Money {
+    static final int DECIMAL_PLACES = 6;
+    static final long UNITS_PER_CENT = 10_000;
+    static final long UNITS_PER_DOLLAR = 100 * UNITS_PER_CENT;
+    static final int BASIS_POINTS = 10_000;
+
+    private Money() {
+    }
+
+    static long fromCents(long cents) {
+        return Math.multiplyExact(cents, UNITS_PER_CENT);
+    }
+
+    // Product prices are doubles in dollars, shared with the earlier versions; they are rounded to whole cents once,
+    // when they enter the v5 pipeline.
+    static long fromPrice(double price) {
+        return fromCents(Math.round(price * 100));
+    }
+
+    static long times(long amount, int quantity) {
+        return Math.multiplyExact(amount, quantity);
+    }
+
+    static long basisPointsOf(long amount, int basisPoints) {
+        long product = Math.multiplyExact(amount, basisPoints);
+        long result = product / BASIS_POINTS;
+        long remainder = Math.abs(product % BASIS_POINTS);
+        if (2 * remainder >= BASIS_POINTS) {
+            result += Long.signum(product);
+        }
+        return result;
+    }
+
+    static long discounted(long amount, int discountBasisPoints) {
+        return amount - basisPointsOf(amount, discountBasisPoints);
+    }
+
+    // Rounds half up, i.e., away from zero, to whole cents.
+    static long toCents(long amount) {
+        long cents = amount / UNITS_PER_CENT;
+        if (2 * Math.abs(amount % UNITS_PER_CENT) >= UNITS_PER_CENT) {
+            cents += Long.signum(amount);
+        }
+        return cents;
+    }
+}
@@ -0,0 +1,31 @@
+package invoice.v5;
+
+import invoice.data.Product;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// The products as the invoice generator needs them: prices in Money units and departments resolved to their ids when
+// the catalog is built, so that generating an invoice looks up each product once and never compares department
+// names. The catalog is a snapshot; later changes to the products are not seen.
+public final class ProductCatalog {
+    record Entry(long price, int departmentId) {
+    }
+
+    private final Map<String, Entry> entries;
+
+    private ProductCatalog(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    public static ProductCatalog of(Map<String, Product> products) {
+        Map<String, Entry> entries = HashMap.newHashMap(products.size());
+        products.forEach((name, product) -> entries.put(name, new Entry(
+                Money.fromPrice(product.getPrice()), InvoiceGenerator.departmentId(product.getDepartment()))));
+        return new ProductCatalog(entries);
+    }
+
+    Entry get(String name) {
+        return entries.get(name);
+    }
+}
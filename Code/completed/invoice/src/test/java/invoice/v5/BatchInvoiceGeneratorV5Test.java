@@ -0,0 +1,101 @@
+package invoice.v5;
+
+import invoice.data.Item;
+import invoice.data.Order;
+import invoice.data.Product;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchInvoiceGeneratorV5Test {
+    private static final List<String> PRODUCT_NAMES =
+            List.of("Lettuce", "Onions", "Tomatoes", "Milk", "Cheese", "Ice Cream");
+    private static Map<String, Product> products;
+    private static List<Order> orders;
+
+    @BeforeAll
+    static void setUp() {
+        products = new HashMap<>();
+        products.put("Lettuce", new Product(1.00, "Produce"));
+        products.put("Onions", new Product(1.10, "Produce"));
+        products.put("Tomatoes", new Product(1.00, "Produce"));
+        products.put("Milk", new Product(2.50, "Dairy"));
+        products.put("Cheese", new Product(3.00, "Dairy"));
+        products.put("Ice Cream", new Product(3.50, "Dairy"));
+
+        Random random = new Random(42);
+        orders = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            List<Item> items = new ArrayList<>();
+            for (int j = 0; j < 1 + random.nextInt(5); j++) {
+                items.add(new Item(PRODUCT_NAMES.get(random.nextInt(PRODUCT_NAMES.size())), 1 + random.nextInt(20)));
+            }
+            orders.add(new Order("Customer " + i, items));
+        }
+    }
+
+    private static List<String> sequentialInvoices() {
+        return orders.stream().map(order -> InvoiceGenerator.generateInvoice(order, products)).toList();
+    }
+
+    @Test
+    void testOrderedOutputIsIdenticalToSequentialOutput() {
+        List<String> invoices = new ArrayList<>();
+        try (var generator = new BatchInvoiceGenerator(products, 4, 16, 8)) {
+            generator.generateInvoices(orders.stream(), BatchInvoiceGenerator.OutputOrder.ORDERED, invoices::add);
+        }
+        assertEquals(sequentialInvoices(), invoices);
+    }
+
+    @Test
+    void testUnorderedOutputContainsAllInvoices() {
+        List<String> invoices = new ArrayList<>();
+        try (var generator = new BatchInvoiceGenerator(products, 4, 16, 8)) {
+            generator.generateInvoices(orders.stream(), BatchInvoiceGenerator.OutputOrder.UNORDERED, invoices::add);
+        }
+        assertEquals(
+                sequentialInvoices().stream().sorted().toList(),
+                invoices.stream().sorted().toList());
+    }
+
+    @Test
+    void testStatistics() {
+        BatchStatistics statistics;
+        try (var generator = new BatchInvoiceGenerator(products)) {
+            statistics = generator.generateInvoices(
+                    orders.stream(), BatchInvoiceGenerator.OutputOrder.ORDERED, invoice -> {});
+        }
+        assertEquals(orders.size(), statistics.numOrders());
+        assertEquals(orders.stream().mapToLong(order -> order.getItems().size()).sum(), statistics.numItems());
+        assertEquals(sequentialInvoices().stream().mapToLong(String::length).sum(), statistics.numChars());
+        assertTrue(statistics.ordersPerSecond() > 0);
+    }
+
+    @Test
+    void testEmptyStream() {
+        try (var generator = new BatchInvoiceGenerator(products)) {
+            BatchStatistics statistics = generator.generateInvoices(
+                    Stream.empty(), BatchInvoiceGenerator.OutputOrder.UNORDERED, invoice -> fail());
+            assertEquals(0, statistics.numOrders());
+        }
+    }
+
+    @Test
+    void testUnknownProductIsReported() {
+        Stream<Order> badOrders = Stream.concat(
+                orders.stream().limit(100), Stream.of(new Order("Eve", List.of(new Item("Caviar", 1)))));
+        try (var generator = new BatchInvoiceGenerator(products, 2, 8, 2)) {
+            var exception = assertThrows(RuntimeException.class, () -> generator.generateInvoices(
+                    badOrders, BatchInvoiceGenerator.OutputOrder.ORDERED, invoice -> {}));
+            assertEquals("Product not found", exception.getMessage());
+        }
+    }
+}
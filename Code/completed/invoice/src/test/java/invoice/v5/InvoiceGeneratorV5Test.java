@@ -8,12 +8,20 @@ import invoice.data.Product;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class InvoiceGeneratorV5Test {
     private static Map<String, Product> products;
@@ -148,4 +156,101 @@ class InvoiceGeneratorV5Test {
                 Total:           $48,96""";
         assertEquals(expected, InvoiceGenerator.generateInvoice(order, products));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testStatisticsAreResetBetweenInvoices() {
+        Order jill = new Order("Jill", List.of(new Item("Lettuce", 10)));
+        Order john = new Order("John", List.of(new Item("Lettuce", 2)));
+        InvoiceGenerator.generateInvoice(jill, products);
+        String expected = """
+                Order for John:
+                  - Lettuce:        2 à 1,00 = $2,00
+                Total: $2,00""";
+        assertEquals(expected, InvoiceGenerator.generateInvoice(john, products));
+    }
+
+    @Test
+    void testDepartmentNamesAreComparedByValue() {
+        Map<String, Product> copiedNames = Map.of("Milk", new Product(2.50, new String("Dairy")));
+        Order order = new Order("Sam", List.of(new Item("Milk", 10)));
+        assertEquals(
+                InvoiceGenerator.generateInvoice(order, products),
+                InvoiceGenerator.generateInvoice(order, copiedNames));
+    }
+
+    @Test
+    void testCatalogGivesTheSameInvoice() {
+        Order order = createLargeOrder(100);
+        assertEquals(
+                InvoiceGenerator.generateInvoice(order, products),
+                InvoiceGenerator.generateInvoice(order, ProductCatalog.of(products)));
+    }
+
+    @Test
+    void testUnknownDepartment() {
+        Map<String, Product> bakery = Map.of("Bread", new Product(2.00, "Bakery"));
+        Order order = new Order("Paul", List.of(new Item("Bread", 1)));
+        var exception = assertThrows(RuntimeException.class, () -> InvoiceGenerator.generateInvoice(order, bakery));
+        assertEquals("Department not found: Bakery", exception.getMessage());
+    }
+
+    private static Order createLargeOrder(int numItems) {
+        List<String> names = List.of("Lettuce", "Onions", "Tomatoes", "Milk", "Cheese", "Ice Cream");
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < numItems; i++) {
+            items.add(new Item(names.get(i % names.size()), 1 + i % 7));
+        }
+        return new Order("Wholesaler", items);
+    }
+
+    @Test
+    void testStreamingToWriter() throws IOException {
+        Order order = createLargeOrder(1000);
+        StringWriter writer = new StringWriter();
+        InvoiceGenerator.generateInvoice(order, products, writer);
+        assertEquals(InvoiceGenerator.generateInvoice(order, products), writer.toString());
+    }
+
+    @Test
+    void testStreamingToChannel() throws IOException {
+        Order order = createLargeOrder(1000);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (WritableByteChannel channel = Channels.newChannel(bytes)) {
+            InvoiceGenerator.generateInvoice(order, products, channel);
+            assertEquals(
+                    InvoiceGenerator.generateInvoice(order, products),
+                    bytes.toString(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void testStreamingWritesOneLineAtATime() throws IOException {
+        Order order = createLargeOrder(50_000);
+        List<Integer> chunkLengths = new ArrayList<>();
+        StringBuilder output = new StringBuilder();
+        Appendable out = new Appendable() {
+            @Override
+            public Appendable append(CharSequence csq) {
+                chunkLengths.add(csq.length());
+                output.append(csq);
+                return this;
+            }
+
+            @Override
+            public Appendable append(CharSequence csq, int start, int end) {
+                return append(csq.subSequence(start, end));
+            }
+
+            @Override
+            public Appendable append(char c) {
+                return append(String.valueOf(c));
+            }
+        };
+        InvoiceGenerator.generateInvoice(order, products, out);
+
+        // Header, one chunk per item, footer.
+        assertEquals(order.getItems().size() + 2, chunkLengths.size());
+        assertTrue(chunkLengths.stream().allMatch(length -> length < 100));
+        assertEquals(InvoiceGenerator.generateInvoice(order, products), output.toString());
+    }
+}
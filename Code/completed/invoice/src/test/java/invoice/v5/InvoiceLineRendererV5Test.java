@@ -0,0 +1,68 @@
+package invoice.v5;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class InvoiceLineRendererV5Test {
+    private static final Locale[] LOCALES = {
+            Locale.GERMANY, Locale.US, Locale.forLanguageTag("fr-CH"), Locale.forLanguageTag("hi-IN-u-nu-deva")};
+
+    private static String amount(Locale locale, long amount) {
+        StringBuilder out = new StringBuilder();
+        new InvoiceLineRenderer(locale).appendAmount(out, amount);
+        return out.toString();
+    }
+
+    private static String format(Locale locale, long amount) {
+        return String.format(locale, "%.2f", BigDecimal.valueOf(amount, Money.DECIMAL_PLACES));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {
+            0, 1, -1, 4_999, 5_000, -5_000, 15_000, 1_005_000, 2_675_000, 123_456_789_125_000L,
+            Long.MAX_VALUE, Long.MIN_VALUE})
+    void testAmountMatchesFormatForEdgeCases(long amount) {
+        for (Locale locale : LOCALES) {
+            assertEquals(format(locale, amount), amount(locale, amount));
+        }
+    }
+
+    @Test
+    void testAmountMatchesFormatForRandomAmounts() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long amount = random.nextLong(-1_000_000_000_000L, 1_000_000_000_000L);
+            assertEquals(format(Locale.GERMANY, amount), amount(Locale.GERMANY, amount));
+        }
+    }
+
+    @Test
+    void testItemLineMatchesFormat() {
+        String[] names = {"Lettuce", "Ice Cream", "A very long product name", ""};
+        int[] quantities = {0, 7, 42, 12345, -3};
+        long itemPrice = Money.fromCents(350);
+        for (Locale locale : LOCALES) {
+            var unit = new InvoiceLineRenderer(locale);
+            for (String name : names) {
+                for (int quantity : quantities) {
+                    long price = Money.times(itemPrice, quantity) * 95 / 100;
+                    long discount = Money.times(itemPrice, quantity) - price;
+                    StringBuilder out = new StringBuilder();
+                    unit.appendItemLine(out, name, quantity, itemPrice, price);
+                    unit.appendDiscount(out, discount);
+                    String expected = String.format(locale, "  - %-12s %4d à %s = $%s", name + ":", quantity,
+                            format(locale, itemPrice), format(locale, price))
+                            + String.format(locale, " (discount: $%s)", format(locale, discount));
+                    assertEquals(expected, out.toString());
+                }
+            }
+        }
+    }
+}
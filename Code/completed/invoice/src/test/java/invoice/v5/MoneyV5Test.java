@@ -0,0 +1,78 @@
+package invoice.v5;
+
+import invoice.data.Item;
+import invoice.data.Order;
+import invoice.data.Product;
+import org.junit.jupiter.api.Test;
+
+import java.text.DecimalFormatSymbols;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MoneyV5Test {
+    @Test
+    void testDiscountedPricesAreExact() {
+        long price = Money.fromCents(350);
+
+        assertEquals(16_625_000, Money.times(Money.discounted(price, 500), 5));
+    }
+
+    @Test
+    void testBasisPointsOfRoundsHalfUp() {
+        assertEquals(1, Money.basisPointsOf(1, 5000));
+        assertEquals(0, Money.basisPointsOf(1, 4999));
+        assertEquals(-1, Money.basisPointsOf(-1, 5000));
+        assertEquals(54_400, Money.basisPointsOf(544_000, 1000));
+    }
+
+    @Test
+    void testToCentsRoundsHalfUp() {
+        assertEquals(1663, Money.toCents(16_625_000));
+        assertEquals(1662, Money.toCents(16_624_999));
+        assertEquals(-1663, Money.toCents(-16_625_000));
+    }
+
+    @Test
+    void testOverflowIsDetected() {
+        assertThrows(ArithmeticException.class, () -> Money.times(Money.fromCents(Long.MAX_VALUE / 1_000_000), 1000));
+    }
+
+    @Test
+    void testFromPriceRoundsToWholeCents() {
+        assertEquals(1_100_000, Money.fromPrice(1.10));
+        assertEquals(300_000, Money.fromPrice(0.1 + 0.2));
+        assertEquals(8_650_000, Money.fromPrice(8.65));
+    }
+
+    @Test
+    void testDiscountedLineIsRoundedFromTheExactAmount() {
+        Map<String, Product> products = Map.of("Cheese", new Product(8.65, "Dairy"));
+        Order order = new Order("Deli", List.of(new Item("Cheese", 166)));
+
+        String invoice = InvoiceGenerator.generateInvoice(order, products);
+
+        // 166 * 8.65 * 0.95 is exactly 1364.105; in doubles it is slightly less and was printed as 1364.10.
+        assertTrue(invoice.contains("= $1364" + decimalSeparator() + "11"), invoice);
+    }
+
+    @Test
+    void testLargeOrderIsExact() {
+        Map<String, Product> products = Map.of("Onions", new Product(1.10, "Produce"));
+        Order order = new Order("Wholesale", List.of(new Item("Onions", 1_000_000_003)));
+
+        String invoice = InvoiceGenerator.generateInvoice(order, products);
+
+        // 1,000,000,003 * 0.99 = 990,000,002.97; the volume discount of 5% is 49,500,000.1485.
+        assertTrue(invoice.contains("= $990000002"), invoice);
+        assertTrue(invoice.endsWith("Total:           $940500002" + decimalSeparator() + "82"), invoice);
+    }
+
+    private static char decimalSeparator() {
+        return DecimalFormatSymbols.getInstance(Locale.getDefault(Locale.Category.FORMAT)).getDecimalSeparator();
+    }
+}
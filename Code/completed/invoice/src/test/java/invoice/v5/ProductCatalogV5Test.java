@@ -0,0 +1,43 @@
+package invoice.v5;
+
+import invoice.data.Product;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProductCatalogV5Test {
+    @Test
+    void testEntriesHavePricesAndDepartmentIds() {
+        ProductCatalog catalog = ProductCatalog.of(Map.of(
+                "Onions", new Product(1.10, "Produce"),
+                "Milk", new Product(2.50, new String("Dairy"))));
+
+        assertEquals(new ProductCatalog.Entry(1_100_000, 0), catalog.get("Onions"));
+        assertEquals(new ProductCatalog.Entry(2_500_000, 1), catalog.get("Milk"));
+        assertNull(catalog.get("Bread"));
+    }
+
+    @Test
+    void testUnknownDepartmentIsRejectedWhenTheCatalogIsBuilt() {
+        Map<String, Product> bakery = Map.of("Bread", new Product(2.00, "Bakery"));
+
+        var exception = assertThrows(RuntimeException.class, () -> ProductCatalog.of(bakery));
+        assertEquals("Department not found: Bakery", exception.getMessage());
+    }
+
+    @Test
+    void testCatalogIsASnapshot() {
+        Map<String, Product> products = new HashMap<>();
+        products.put("Milk", new Product(2.50, "Dairy"));
+        ProductCatalog catalog = ProductCatalog.of(products);
+
+        products.put("Milk", new Product(3.00, "Dairy"));
+
+        assertEquals(2_500_000, catalog.get("Milk").price());
+    }
+}